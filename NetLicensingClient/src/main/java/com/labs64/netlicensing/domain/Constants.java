@@ -142,10 +142,16 @@ public final class Constants {
 
         public static final class TryAndBuy {
             public static final String NAME = "TryAndBuy";
+            public static final String EVALUATION = "evaluation";
+            public static final String EVALUATION_EXPIRES = "evaluationExpires";
         }
 
         public static final class Rental {
             public static final String NAME = "Rental";
+            /**
+             * Former name of the Rental licensing model, still reported for older product modules.
+             */
+            public static final String LEGACY_NAME = "FeatureWithTimeVolume";
             public static final String RED_THRESHOLD = "redThreshold";
             public static final String YELLOW_THRESHOLD = "yellowThreshold";
         }
@@ -164,6 +170,7 @@ public final class Constants {
 
         public static final class PayPerUse {
             public static final String NAME = "PayPerUse";
+            public static final String REMAINING_QUANTITY = "remainingQuantity";
         }
 
         public static final class PricingTable {
@@ -219,6 +226,7 @@ public final class Constants {
         public static final String VALIDATION_RESULT_TYPE = "ProductModuleValidation";
         public static final int DEFAULT_TTL_MINUTES = 60 * 24; // 1 day
         public static final String WARNING_LEVEL = "warningLevel";
+        public static final String EXPIRES = "expires";
     }
 
     public static final class Notification {
@@ -13,11 +13,13 @@
 package com.labs64.netlicensing.domain;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.commons.lang3.StringUtils;
+
 import com.labs64.netlicensing.domain.entity.Bundle;
 import com.labs64.netlicensing.domain.entity.Country;
 import com.labs64.netlicensing.domain.entity.License;
@@ -62,31 +64,39 @@ import com.labs64.netlicensing.util.Visitor;
  */
 public class EntityFactory {
 
-    private static final Map<Class<?>, Class<?>> entityToConverterMap = new HashMap<>();
+    private static final String PROPERTIES_SUFFIX = "Properties";
 
-    static {
-        entityToConverterMap.put(License.class, ItemToLicenseConverter.class);
-        entityToConverterMap.put(Licensee.class, ItemToLicenseeConverter.class);
-        entityToConverterMap.put(LicenseTemplate.class, ItemToLicenseTemplateConverter.class);
-        entityToConverterMap.put(PaymentMethod.class, ItemToPaymentMethodConverter.class);
-        entityToConverterMap.put(Product.class, ItemToProductConverter.class);
-        entityToConverterMap.put(ProductModule.class, ItemToProductModuleConverter.class);
-        entityToConverterMap.put(Token.class, ItemToTokenConverter.class);
-        entityToConverterMap.put(Transaction.class, ItemToTransactionConverter.class);
-        entityToConverterMap.put(Country.class, ItemToCountryConverter.class);
-        entityToConverterMap.put(LicensingModelProperties.class, ItemToLicensingModelPropertiesConverter.class);
-        entityToConverterMap.put(LicenseTypeProperties.class, ItemToLicenseTypePropertiesConverter.class);
-        entityToConverterMap.put(Notification.class, ItemToNotificationConverter.class);
-        entityToConverterMap.put(Bundle.class, ItemToBundleConverter.class);
-    }
+    /** converter per entity class; the converters are stateless and shared */
+    private static final Map<Class<?>, Converter<Item, ?>> converters;
 
-    private Map<Class<?>, Converter<Item, ?>> convertersCache;
+    /** entity class per response item type */
+    private static final Map<String, Class<?>> entityClassesByItemType;
 
-    private Map<Class<?>, Converter<Item, ?>> getConvertersCache() {
-        if (convertersCache == null) {
-            convertersCache = new HashMap<>();
+    static {
+        final Map<Class<?>, Converter<Item, ?>> converterMap = new HashMap<>();
+        converterMap.put(License.class, new ItemToLicenseConverter());
+        converterMap.put(Licensee.class, new ItemToLicenseeConverter());
+        converterMap.put(LicenseTemplate.class, new ItemToLicenseTemplateConverter());
+        converterMap.put(PaymentMethod.class, new ItemToPaymentMethodConverter());
+        converterMap.put(Product.class, new ItemToProductConverter());
+        converterMap.put(ProductModule.class, new ItemToProductModuleConverter());
+        converterMap.put(Token.class, new ItemToTokenConverter());
+        converterMap.put(Transaction.class, new ItemToTransactionConverter());
+        converterMap.put(Country.class, new ItemToCountryConverter());
+        converterMap.put(LicensingModelProperties.class, new ItemToLicensingModelPropertiesConverter());
+        converterMap.put(LicenseTypeProperties.class, new ItemToLicenseTypePropertiesConverter());
+        converterMap.put(Notification.class, new ItemToNotificationConverter());
+        converterMap.put(Bundle.class, new ItemToBundleConverter());
+        converters = Collections.unmodifiableMap(converterMap);
+
+        // items of the *Properties entities are sent with the type without the suffix, e.g. "LicensingModel"
+        final Map<String, Class<?>> itemTypeMap = new HashMap<>();
+        for (final Class<?> entityClass : converterMap.keySet()) {
+            itemTypeMap.put(entityClass.getSimpleName(), entityClass);
+            itemTypeMap.putIfAbsent(StringUtils.removeEnd(entityClass.getSimpleName(), PROPERTIES_SUFFIX),
+                    entityClass);
         }
-        return convertersCache;
+        entityClassesByItemType = Collections.unmodifiableMap(itemTypeMap);
     }
 
     /**
@@ -110,72 +120,97 @@ public class EntityFactory {
         }
     }
 
+    /**
+     * Links the linked entities of a page response to the entities of the page. The linked entities are indexed once
+     * by the number of the entity they refer to; each linked entity is linked to the first entity visited with that
+     * number.
+     */
     public class LinkedEntitiesPopulator extends Visitor {
 
-        private final List<Object> linkedEntities;
+        private final Map<String, List<ProductModule>> productModulesByProduct = new HashMap<>();
 
-        public LinkedEntitiesPopulator(final List<Object> linkedEntities) {
-            this.linkedEntities = linkedEntities;
-        }
+        private final Map<String, List<Licensee>> licenseesByProduct = new HashMap<>();
 
-        public void visit(final Product product) throws Exception {
-            final List<ProductModule> linkedProductModules = new ArrayList<>();
-            for (final Iterator<Object> iter = linkedEntities.iterator(); iter.hasNext();) {
-                final Object linkedEntity = iter.next();
-                if (ProductModule.class.isAssignableFrom(linkedEntity.getClass())) {
+        private final Map<String, List<LicenseTemplate>> licenseTemplatesByProductModule = new HashMap<>();
+
+        private final Map<String, List<License>> licensesByLicenseTemplate = new HashMap<>();
+
+        public LinkedEntitiesPopulator(final List<Object> linkedEntities) {
+            for (final Object linkedEntity : linkedEntities) {
+                if (linkedEntity instanceof ProductModule) {
                     final ProductModule linkedProductModule = (ProductModule) linkedEntity;
-                    if (product.getNumber().equals(linkedProductModule.getProduct().getNumber())) {
-                        iter.remove();
-                        linkedProductModules.add(linkedProductModule);
-                        linkedProductModule.setProduct(product);
+                    if (linkedProductModule.getProduct() != null) {
+                        index(productModulesByProduct, linkedProductModule.getProduct().getNumber(),
+                                linkedProductModule);
                     }
-                } else if (Licensee.class.isAssignableFrom(linkedEntity.getClass())) {
-                    final Licensee linkedLecensee = (Licensee) linkedEntity;
-                    if (product.getNumber().equals(linkedLecensee.getProduct().getNumber())) {
-                        iter.remove();
-                        linkedLecensee.setProduct(product);
+                } else if (linkedEntity instanceof Licensee) {
+                    final Licensee linkedLicensee = (Licensee) linkedEntity;
+                    if (linkedLicensee.getProduct() != null) {
+                        index(licenseesByProduct, linkedLicensee.getProduct().getNumber(), linkedLicensee);
+                    }
+                } else if (linkedEntity instanceof LicenseTemplate) {
+                    final LicenseTemplate linkedLicenseTemplate = (LicenseTemplate) linkedEntity;
+                    if (linkedLicenseTemplate.getProductModule() != null) {
+                        index(licenseTemplatesByProductModule, linkedLicenseTemplate.getProductModule().getNumber(),
+                                linkedLicenseTemplate);
+                    }
+                } else if (linkedEntity instanceof License) {
+                    final License linkedLicense = (License) linkedEntity;
+                    if (linkedLicense.getLicenseTemplate() != null) {
+                        index(licensesByLicenseTemplate, linkedLicense.getLicenseTemplate().getNumber(),
+                                linkedLicense);
                     }
                 }
             }
+        }
+
+        public void visit(final Product product) throws Exception {
+            for (final Licensee linkedLicensee : take(licenseesByProduct, product.getNumber())) {
+                linkedLicensee.setProduct(product);
+            }
+            final List<ProductModule> linkedProductModules = take(productModulesByProduct, product.getNumber());
+            for (final ProductModule linkedProductModule : linkedProductModules) {
+                linkedProductModule.setProduct(product);
+            }
             for (final ProductModule linkedProductModule : linkedProductModules) {
-                if (Visitable.class.isAssignableFrom(linkedProductModule.getClass())) {
+                if (linkedProductModule instanceof Visitable) {
                     ((Visitable) linkedProductModule).accept(this);
                 }
             }
         }
 
         public void visit(final ProductModule productModule) throws Exception {
-            final List<LicenseTemplate> linkedLicenseTemplates = new ArrayList<>();
-            for (final Iterator<Object> iter = linkedEntities.iterator(); iter.hasNext();) {
-                final Object linkedEntity = iter.next();
-                if (LicenseTemplate.class.isAssignableFrom(linkedEntity.getClass())) {
-                    final LicenseTemplate linkedLicenseTemplate = (LicenseTemplate) linkedEntity;
-                    if (productModule.getNumber().equals(linkedLicenseTemplate.getProductModule().getNumber())) {
-                        iter.remove();
-                        linkedLicenseTemplates.add(linkedLicenseTemplate);
-                        linkedLicenseTemplate.setProductModule(productModule);
-                    }
-                }
+            final List<LicenseTemplate> linkedLicenseTemplates = take(licenseTemplatesByProductModule,
+                    productModule.getNumber());
+            for (final LicenseTemplate linkedLicenseTemplate : linkedLicenseTemplates) {
+                linkedLicenseTemplate.setProductModule(productModule);
             }
             for (final LicenseTemplate linkedLicenseTemplate : linkedLicenseTemplates) {
-                if (Visitable.class.isAssignableFrom(linkedLicenseTemplate.getClass())) {
+                if (linkedLicenseTemplate instanceof Visitable) {
                     ((Visitable) linkedLicenseTemplate).accept(this);
                 }
             }
         }
 
         public void visit(final LicenseTemplate licenseTemplate) throws Exception {
-            for (final Iterator<Object> iter = linkedEntities.iterator(); iter.hasNext();) {
-                final Object linkedEntity = iter.next();
-                if (License.class.isAssignableFrom(linkedEntity.getClass())) {
-                    final License linkedLicense = (License) linkedEntity;
-                    if (licenseTemplate.getNumber().equals(linkedLicense.getLicenseTemplate().getNumber())) {
-                        iter.remove();
-                        linkedLicense.setLicenseTemplate(licenseTemplate);
-                    }
-                }
+            for (final License linkedLicense : take(licensesByLicenseTemplate, licenseTemplate.getNumber())) {
+                linkedLicense.setLicenseTemplate(licenseTemplate);
             }
         }
+
+        private <E> void index(final Map<String, List<E>> index, final String number, final E linkedEntity) {
+            if (number != null) {
+                index.computeIfAbsent(number, key -> new ArrayList<>()).add(linkedEntity);
+            }
+        }
+
+        /**
+         * Removes and returns the linked entities referring to the number, so each is linked only once.
+         */
+        private <E> List<E> take(final Map<String, List<E>> index, final String number) {
+            final List<E> linked = index.remove(number);
+            return (linked != null) ? linked : Collections.<E> emptyList();
+        }
     }
 
     /**
@@ -204,10 +239,11 @@ public class EntityFactory {
             }
 
             if (!linkedEntities.isEmpty()) {
+                final LinkedEntitiesPopulator linkedEntitiesPopulator = new LinkedEntitiesPopulator(linkedEntities);
                 for (final T entity : entities) {
-                    if (Visitable.class.isAssignableFrom(entity.getClass())) {
+                    if (entity instanceof Visitable) {
                         try {
-                            ((Visitable) entity).accept(new LinkedEntitiesPopulator(linkedEntities));
+                            ((Visitable) entity).accept(linkedEntitiesPopulator);
                         } catch (final Exception e) {
                             throw new ConversionException("Error processing linked entities.", e);
                         }
@@ -226,6 +262,23 @@ public class EntityFactory {
         }
     }
 
+    /**
+     * Creates entity of specified class from a single item of a page response.
+     *
+     * @param item
+     *            page item
+     * @param entityClass
+     *            entity class
+     * @return entity created from the item, or null if the item is a linked entity of another class
+     * @throws com.labs64.netlicensing.exception.NetLicensingException
+     */
+    public <T> T createFromItem(final Item item, final Class<T> entityClass) throws NetLicensingException {
+        if (entityClass.isAssignableFrom(getEntityClassByItemType(item))) {
+            return converterFor(entityClass).convert(item);
+        }
+        return null;
+    }
+
     /**
      * Returns converter that is able to convert an {@link Item} object to an entity of specified class
      *
@@ -235,26 +288,10 @@ public class EntityFactory {
      */
     @SuppressWarnings("unchecked")
     private <T> Converter<Item, T> converterFor(final Class<T> entityClass) {
-        Converter<Item, T> converter = null;
-        try {
-            converter = (Converter<Item, T>) getConvertersCache().get(entityClass);
-        } catch (final ClassCastException e) {
-            throw new RuntimeException(
-                    "Wrong converter type found for entity class " + entityClass.getCanonicalName() + ".");
-        }
+        final Converter<Item, T> converter = (Converter<Item, T>) converters.get(entityClass);
         if (converter == null) {
-            final Class<?> converterClass = entityToConverterMap.get(entityClass);
-            if (converterClass == null) {
-                throw new IllegalArgumentException("No converter is found for entity of class "
-                        + entityClass.getCanonicalName() + ".");
-            }
-            try {
-                converter = (Converter<Item, T>) converterClass.getConstructor().newInstance();
-                getConvertersCache().put(entityClass, converter);
-            } catch (final Throwable e) {
-                throw new RuntimeException(
-                        "Can not instantiate converter of class " + converterClass.getCanonicalName() + ".");
-            }
+            throw new IllegalArgumentException("No converter is found for entity of class "
+                    + entityClass.getCanonicalName() + ".");
         }
         return converter;
     }
@@ -292,8 +329,7 @@ public class EntityFactory {
      * @return true if item is the XML item of class "type"
      */
     private boolean isItemOfType(final Item item, final Class<?> type) {
-        return type.getSimpleName().equals(item.getType())
-                || type.getSimpleName().equals(item.getType() + "Properties");
+        return (item.getType() != null) && (entityClassesByItemType.get(item.getType()) == type);
     }
 
     /**
@@ -307,13 +343,12 @@ public class EntityFactory {
      */
     private Class<?> getEntityClassByItemType(final Item item) throws WrongResponseFormatException {
         final String itemType = item.getType();
-        final String itemTypeProps = itemType.concat("Properties");
-        for (final Class<?> entityClass : entityToConverterMap.keySet()) {
-            if (entityClass.getSimpleName().equals(itemType) || entityClass.getSimpleName().equals(itemTypeProps)) {
-                return entityClass;
-            }
+        final Class<?> entityClass = (itemType != null) ? entityClassesByItemType.get(itemType) : null;
+        if (entityClass == null) {
+            throw new WrongResponseFormatException("Service response contains unexpected item type " + itemType
+                    + ".");
         }
-        throw new WrongResponseFormatException("Service response contains unexpected item type " + itemType + ".");
+        return entityClass;
     }
 
 }
@@ -19,6 +19,7 @@ import java.util.Map;
 
 import com.labs64.netlicensing.domain.Constants;
 import com.labs64.netlicensing.domain.entity.BaseEntity;
+import com.labs64.netlicensing.util.CompactPropertyMap;
 import com.labs64.netlicensing.util.Visitable;
 
 /**
@@ -28,6 +29,9 @@ public abstract class BaseEntityImpl extends Visitable implements BaseEntity {
 
     private static final long serialVersionUID = -3912283193861706866L;
 
+    /** upper estimate of the number of entity fields added to {@link #asMap()} by the derived entity classes */
+    private static final int MAX_ENTITY_FIELDS = 12;
+
     private String number;
 
     private Boolean active;
@@ -72,7 +76,7 @@ public abstract class BaseEntityImpl extends Visitable implements BaseEntity {
     @Override
     public Map<String, String> getProperties() {
         if (properties == null) {
-            properties = new HashMap<>();
+            properties = new CompactPropertyMap<>();
         }
         return properties;
     }
@@ -94,7 +98,8 @@ public abstract class BaseEntityImpl extends Visitable implements BaseEntity {
     
     @Override
     public Map<String, Object> asMap() {
-        final Map<String, Object> map = new HashMap<>();
+        final int size = ((properties != null) ? properties.size() : 0) + MAX_ENTITY_FIELDS;
+        final Map<String, Object> map = new HashMap<>((int) (size / 0.75f) + 1);
         map.put(Constants.NUMBER, getNumber());
         map.put(Constants.ACTIVE, getActive());
         if (properties != null) {
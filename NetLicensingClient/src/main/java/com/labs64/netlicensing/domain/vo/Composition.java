@@ -13,10 +13,11 @@
 package com.labs64.netlicensing.domain.vo;
 
 import java.io.Serializable;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 
+import com.labs64.netlicensing.util.CompactPropertyMap;
+
 public class Composition implements Serializable {
 
     private static final long serialVersionUID = 1L;
@@ -33,9 +34,29 @@ public class Composition implements Serializable {
         this.value = value;
     }
 
+    /**
+     * Creates a deep copy of the given composition.
+     *
+     * @param source
+     *            composition to copy
+     */
+    public Composition(final Composition source) {
+        value = source.value;
+        if (source.properties != null) {
+            properties = new CompactPropertyMap<>(source.properties.size());
+            for (final Entry<String, Composition> property : source.properties.entrySet()) {
+                properties.put(property.getKey(),
+                        (property.getValue() != null) ? new Composition(property.getValue()) : null);
+            }
+        }
+    }
+
+    /**
+     * @return properties of the list, kept in a compact map sorted by name
+     */
     public Map<String, Composition> getProperties() {
         if (properties == null) {
-            properties = new HashMap<String, Composition>();
+            properties = new CompactPropertyMap<>();
         }
         return properties;
     }
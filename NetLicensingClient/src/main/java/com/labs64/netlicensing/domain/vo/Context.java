@@ -12,6 +12,10 @@
  */
 package com.labs64.netlicensing.domain.vo;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import com.labs64.netlicensing.domain.Constants;
 
 /**
@@ -20,11 +24,16 @@ import com.labs64.netlicensing.domain.Constants;
  * The Context object may differ depending on the level at which NetLicensing API is called.
  * <p>
  * For the internal Java NetLicensing API the Context provides information about the targeted Vendor.
+ * <p>
+ * The values set through the setters are kept in a concurrent map, but the public keys are plain fields without any
+ * synchronization: set them before the context is shared between threads.
  */
 public class Context extends GenericContext<String> {
 
     private String publicKey;
 
+    private List<String> publicKeys = Collections.emptyList();
+
     public Context() {
         super(String.class);
     }
@@ -85,11 +94,43 @@ public class Context extends GenericContext<String> {
      *            client publicKey.
      */
     public void setPublicKey(final String publicKey) {
+        setPublicKeys(publicKey);
         this.publicKey = publicKey;
     }
 
+    /**
+     * @return the public key as set by {@link #setPublicKey(String)}, or the first of the keys set by
+     *         {@link #setPublicKeys(String...)}
+     */
     public String getPublicKey() {
         return publicKey;
     }
 
+    /**
+     * Sets the public keys accepted for signed NetLicensing responses. A response is accepted if its signature can be
+     * verified with any of the keys, which allows to roll over to a new key without downtime.
+     *
+     * @param publicKeys
+     *            client public keys; null and empty values are ignored
+     */
+    public void setPublicKeys(final String... publicKeys) {
+        final List<String> keys = new ArrayList<>();
+        if (publicKeys != null) {
+            for (final String publicKey : publicKeys) {
+                if ((publicKey != null) && !publicKey.isEmpty()) {
+                    keys.add(publicKey);
+                }
+            }
+        }
+        this.publicKeys = Collections.unmodifiableList(keys);
+        this.publicKey = keys.isEmpty() ? null : keys.get(0);
+    }
+
+    /**
+     * @return all public keys accepted for signed NetLicensing responses, empty list if none is set
+     */
+    public List<String> getPublicKeys() {
+        return publicKeys;
+    }
+
 }
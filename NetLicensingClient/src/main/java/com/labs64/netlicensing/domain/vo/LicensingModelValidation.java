@@ -0,0 +1,350 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.labs64.netlicensing.domain.vo;
+
+import java.io.Serializable;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.labs64.netlicensing.domain.Constants;
+import com.labs64.netlicensing.util.DateUtils;
+
+/**
+ * Typed view of the validation of one product module, with the values of the licensing model already parsed.
+ * <p>
+ * Use {@link ValidationResult#getLicensingModelValidation(String, Class)} to obtain the view for the licensing model
+ * of the product module, e.g. {@link Subscription}. Product modules with a licensing model without model-specific
+ * values (e.g. Floating, Quota, Node-Locked) or not known to this client are represented by this class itself. Values
+ * not covered by the typed getters are available by {@link #getProperty(String)}.
+ */
+public class LicensingModelValidation implements Serializable {
+
+    private static final long serialVersionUID = 2305375487470418356L;
+
+    private final Composition validation;
+
+    private final String licensingModel;
+
+    private final String productModuleName;
+
+    private final boolean valid;
+
+    private final WarningLevel warningLevel;
+
+    protected LicensingModelValidation(final Composition validation) {
+        this.validation = validation;
+        licensingModel = value(validation, Constants.ProductModule.LICENSING_MODEL);
+        productModuleName = value(validation, Constants.ProductModule.PRODUCT_MODULE_NAME);
+        valid = Boolean.parseBoolean(value(validation, Constants.LicensingModel.VALID));
+        warningLevel = WarningLevel.parseString(value(validation, Constants.ValidationResult.WARNING_LEVEL));
+    }
+
+    /**
+     * Creates the view matching the licensing model of the given product module validation.
+     *
+     * @param validation
+     *            product module validation
+     * @return typed view of the validation
+     * @throws IllegalArgumentException
+     *             if a value of the licensing model is malformed, e.g. a quantity or date that cannot be parsed
+     */
+    public static LicensingModelValidation of(final Composition validation) {
+        final String licensingModel = value(validation, Constants.ProductModule.LICENSING_MODEL);
+        if (licensingModel == null) {
+            return new LicensingModelValidation(validation);
+        }
+        switch (licensingModel) {
+        case Constants.LicensingModel.TryAndBuy.NAME:
+            return new TryAndBuy(validation);
+        case Constants.LicensingModel.Subscription.NAME:
+            return new Subscription(validation);
+        case Constants.LicensingModel.Rental.NAME:
+        case Constants.LicensingModel.Rental.LEGACY_NAME:
+            return new Rental(validation);
+        case Constants.LicensingModel.MultiFeature.NAME:
+            return new MultiFeature(validation);
+        case Constants.LicensingModel.PayPerUse.NAME:
+            return new PayPerUse(validation);
+        default:
+            return new LicensingModelValidation(validation);
+        }
+    }
+
+    /**
+     * @return licensing model as reported by the validation
+     */
+    public String getLicensingModel() {
+        return licensingModel;
+    }
+
+    /**
+     * @return name of the product module
+     */
+    public String getProductModuleName() {
+        return productModuleName;
+    }
+
+    /**
+     * @return true if the product module is valid for the licensee
+     */
+    public boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * @return warning level, or null if not reported by the validation
+     */
+    public WarningLevel getWarningLevel() {
+        return warningLevel;
+    }
+
+    /**
+     * @param name
+     *            property name
+     * @return raw value of the property, or null if not present
+     */
+    public String getProperty(final String name) {
+        return value(validation, name);
+    }
+
+    /**
+     * @return product module validation this view is based on
+     */
+    public Composition getValidation() {
+        return validation;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + validation;
+    }
+
+    static String value(final Composition composition, final String name) {
+        final Composition property = composition.getProperties().get(name);
+        return (property != null) ? property.getValue() : null;
+    }
+
+    static Calendar date(final Composition composition, final String name) {
+        final String value = value(composition, name);
+        return (value != null) ? DateUtils.parseDate(value) : null;
+    }
+
+    /**
+     * Validation of a product module with the Try &amp; Buy licensing model.
+     */
+    public static class TryAndBuy extends LicensingModelValidation {
+
+        private static final long serialVersionUID = -1393370880766707005L;
+
+        private final boolean evaluation;
+
+        private final Calendar evaluationExpires;
+
+        TryAndBuy(final Composition validation) {
+            super(validation);
+            evaluation = Boolean.parseBoolean(value(validation, Constants.LicensingModel.TryAndBuy.EVALUATION));
+            evaluationExpires = date(validation, Constants.LicensingModel.TryAndBuy.EVALUATION_EXPIRES);
+        }
+
+        /**
+         * @return true if the product module is valid by an evaluation license only
+         */
+        public boolean isEvaluation() {
+            return evaluation;
+        }
+
+        /**
+         * @return expiration of the evaluation, or null if not reported by the validation
+         */
+        public Calendar getEvaluationExpires() {
+            return evaluationExpires;
+        }
+
+    }
+
+    /**
+     * Validation of a product module with the Subscription licensing model.
+     */
+    public static class Subscription extends LicensingModelValidation {
+
+        private static final long serialVersionUID = 6962212466539787447L;
+
+        private final Calendar expires;
+
+        Subscription(final Composition validation) {
+            super(validation);
+            expires = date(validation, Constants.ValidationResult.EXPIRES);
+        }
+
+        /**
+         * @return expiration of the subscription, or null if not reported by the validation
+         */
+        public Calendar getExpires() {
+            return expires;
+        }
+
+    }
+
+    /**
+     * Validation of a product module whose licensing model validates several features, reported as one list each.
+     */
+    public abstract static class FeatureBased extends LicensingModelValidation {
+
+        private static final long serialVersionUID = -2869716208932282406L;
+
+        private final Map<String, Feature> features;
+
+        FeatureBased(final Composition validation) {
+            super(validation);
+            final Map<String, Feature> features = new HashMap<>();
+            for (final Map.Entry<String, Composition> entry : validation.getProperties().entrySet()) {
+                if (entry.getValue().getValue() == null) {
+                    features.put(entry.getKey(), new Feature(entry.getKey(), entry.getValue()));
+                }
+            }
+            this.features = Collections.unmodifiableMap(features);
+        }
+
+        /**
+         * @return validations of the features, by feature name
+         */
+        public Map<String, Feature> getFeatures() {
+            return features;
+        }
+
+        /**
+         * @param name
+         *            feature name
+         * @return validation of the feature, or null if not reported by the validation
+         */
+        public Feature getFeature(final String name) {
+            return features.get(name);
+        }
+
+        /**
+         * @param name
+         *            feature name
+         * @return true if the feature is valid for the licensee
+         */
+        public boolean isValid(final String name) {
+            final Feature feature = features.get(name);
+            return (feature != null) && feature.isValid();
+        }
+
+    }
+
+    /**
+     * Validation of a single feature of a {@link FeatureBased} licensing model.
+     */
+    public static final class Feature implements Serializable {
+
+        private static final long serialVersionUID = 4405284018364359934L;
+
+        private final String name;
+
+        private final boolean valid;
+
+        private final Calendar expires;
+
+        private final WarningLevel warningLevel;
+
+        Feature(final String name, final Composition validation) {
+            this.name = name;
+            valid = Boolean.parseBoolean(value(validation, Constants.LicensingModel.VALID));
+            expires = date(validation, Constants.ValidationResult.EXPIRES);
+            warningLevel = WarningLevel.parseString(value(validation, Constants.ValidationResult.WARNING_LEVEL));
+        }
+
+        /**
+         * @return feature name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return true if the feature is valid for the licensee
+         */
+        public boolean isValid() {
+            return valid;
+        }
+
+        /**
+         * @return expiration of the feature, or null if not reported by the validation
+         */
+        public Calendar getExpires() {
+            return expires;
+        }
+
+        /**
+         * @return warning level, or null if not reported by the validation
+         */
+        public WarningLevel getWarningLevel() {
+            return warningLevel;
+        }
+
+    }
+
+    /**
+     * Validation of a product module with the Rental licensing model.
+     */
+    public static class Rental extends FeatureBased {
+
+        private static final long serialVersionUID = -5416185337409780213L;
+
+        Rental(final Composition validation) {
+            super(validation);
+        }
+
+    }
+
+    /**
+     * Validation of a product module with the Multi-Feature licensing model.
+     */
+    public static class MultiFeature extends FeatureBased {
+
+        private static final long serialVersionUID = 8196683592049367012L;
+
+        MultiFeature(final Composition validation) {
+            super(validation);
+        }
+
+    }
+
+    /**
+     * Validation of a product module with the Pay-per-Use licensing model.
+     */
+    public static class PayPerUse extends LicensingModelValidation {
+
+        private static final long serialVersionUID = 3587442018474213869L;
+
+        private final Long remainingQuantity;
+
+        PayPerUse(final Composition validation) {
+            super(validation);
+            final String remainingQuantity = value(validation, Constants.LicensingModel.PayPerUse.REMAINING_QUANTITY);
+            this.remainingQuantity = (remainingQuantity != null) ? Long.valueOf(remainingQuantity) : null;
+        }
+
+        /**
+         * @return remaining quantity, or null if not reported by the validation
+         */
+        public Long getRemainingQuantity() {
+            return remainingQuantity;
+        }
+
+    }
+
+}
@@ -17,6 +17,8 @@ import java.util.Calendar;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import com.labs64.netlicensing.domain.Constants;
 import com.labs64.netlicensing.domain.entity.Licensee;
@@ -26,8 +28,12 @@ public class ValidationResult implements Serializable {
 
     private static final long serialVersionUID = -4160421171524379008L;
 
-    private Calendar ttl;
+    private volatile Calendar ttl;
+    /** expiry of the default TTL in milliseconds; 0 once the TTL has been set explicitly */
+    private long defaultTtlMillis;
     private Map<String, Composition> validations;
+    /** typed views of the product module validations, created on first access */
+    private transient volatile Map<String, LicensingModelValidation> licensingModelValidations;
 
     private Licensee licensee;
 
@@ -54,10 +60,18 @@ public class ValidationResult implements Serializable {
     }
 
     public void setTtl(final Calendar ttl) {
+        this.defaultTtlMillis = 0;
         this.ttl = ttl;
     }
 
     public Calendar getTtl() {
+        Calendar ttl = this.ttl;
+        if ((ttl == null) && (defaultTtlMillis != 0)) {
+            // the default TTL is materialized on first access only, as it is usually replaced by the server TTL
+            ttl = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+            ttl.setTimeInMillis(defaultTtlMillis);
+            this.ttl = ttl;
+        }
         return ttl;
     }
 
@@ -69,8 +83,35 @@ public class ValidationResult implements Serializable {
     }
 
     public ValidationResult() {
-        ttl = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
-        ttl.add(Calendar.MINUTE, Constants.ValidationResult.DEFAULT_TTL_MINUTES);
+        defaultTtlMillis = System.currentTimeMillis()
+                + TimeUnit.MINUTES.toMillis(Constants.ValidationResult.DEFAULT_TTL_MINUTES);
+    }
+
+    /**
+     * Creates a deep copy of the given validation result, so that a shared result can be handed out without exposing
+     * it to changes. The licensee is copied with its number, active flag and properties.
+     *
+     * @param source
+     *            validation result to copy
+     */
+    public ValidationResult(final ValidationResult source) {
+        final Calendar sourceTtl = source.ttl;
+        ttl = (sourceTtl != null) ? (Calendar) sourceTtl.clone() : null;
+        defaultTtlMillis = source.defaultTtlMillis;
+        if (source.validations != null) {
+            validations = new HashMap<>((int) (source.validations.size() / 0.75f) + 1);
+            for (final Map.Entry<String, Composition> validation : source.validations.entrySet()) {
+                validations.put(validation.getKey(),
+                        (validation.getValue() != null) ? new Composition(validation.getValue()) : null);
+            }
+        }
+        if (source.licensee != null) {
+            final LicenseeImpl licensee = new LicenseeImpl();
+            licensee.setNumber(source.licensee.getNumber());
+            licensee.setActive(source.licensee.getActive());
+            licensee.getProperties().putAll(source.licensee.getProperties());
+            this.licensee = licensee;
+        }
     }
 
     public Composition getProductModuleValidation(final String productModuleNumber) {
@@ -80,10 +121,73 @@ public class ValidationResult implements Serializable {
     public void setProductModuleValidation(final String productModuleNumber,
             final Composition productModuleValidation) {
         getValidations().put(productModuleNumber, productModuleValidation);
+        invalidateLicensingModelValidation(productModuleNumber);
     }
 
     public void put(final String productModuleNumber, final String key, final String value) {
         getProductModuleValidation(productModuleNumber).put(key, value);
+        invalidateLicensingModelValidation(productModuleNumber);
+    }
+
+    /**
+     * Gets the typed view of a product module validation. The view is created on first access and reused afterwards,
+     * so the values are parsed only once; changes made through {@link #getValidations()} are not reflected in views
+     * created before.
+     *
+     * @param productModuleNumber
+     *            product module number
+     * @return typed view of the product module validation, or null if the product module has not been validated
+     * @throws IllegalArgumentException
+     *             if a value of the licensing model is malformed, see {@link LicensingModelValidation#of(Composition)}
+     */
+    public LicensingModelValidation getLicensingModelValidation(final String productModuleNumber) {
+        final Composition validation = getProductModuleValidation(productModuleNumber);
+        if (validation == null) {
+            return null;
+        }
+        Map<String, LicensingModelValidation> views = licensingModelValidations;
+        if (views == null) {
+            synchronized (this) {
+                views = licensingModelValidations;
+                if (views == null) {
+                    views = new ConcurrentHashMap<>();
+                    licensingModelValidations = views;
+                }
+            }
+        }
+        return views.computeIfAbsent(productModuleNumber, number -> LicensingModelValidation.of(validation));
+    }
+
+    /**
+     * Gets the typed view of a product module validation for the expected licensing model.
+     *
+     * @param productModuleNumber
+     *            product module number
+     * @param licensingModel
+     *            view class of the expected licensing model, e.g. {@link LicensingModelValidation.Subscription}
+     * @param <T>
+     *            view type
+     * @return typed view of the product module validation, or null if the product module has not been validated
+     * @throws IllegalArgumentException
+     *             if the product module is validated with a different licensing model, or a value of the licensing
+     *             model is malformed
+     */
+    public <T extends LicensingModelValidation> T getLicensingModelValidation(final String productModuleNumber,
+            final Class<T> licensingModel) {
+        final LicensingModelValidation view = getLicensingModelValidation(productModuleNumber);
+        if ((view != null) && !licensingModel.isInstance(view)) {
+            throw new IllegalArgumentException(String.format(
+                    "Product module '%s' is validated with licensing model '%s', not '%s'", productModuleNumber,
+                    view.getLicensingModel(), licensingModel.getSimpleName()));
+        }
+        return licensingModel.cast(view);
+    }
+
+    private void invalidateLicensingModelValidation(final String productModuleNumber) {
+        final Map<String, LicensingModelValidation> views = licensingModelValidations;
+        if (views != null) {
+            views.remove(productModuleNumber);
+        }
     }
 
     @Override
@@ -0,0 +1,147 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.labs64.netlicensing.provider;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.net.http.HttpClient;
+import java.net.http.HttpClient.Redirect;
+import java.net.http.HttpClient.Version;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+import com.labs64.netlicensing.util.ThreadUtils;
+
+/**
+ * Registry of shared {@link HttpClient} instances.
+ * <p>
+ * One client is kept per base URL and client settings, so the keep-alive connection pool and the selector thread of a
+ * client are reused by all calls made with the same settings. Clients are keyed by the settings that shape them
+ * rather than by {@link RestProvider.Configuration} instance, so creating a configuration per context or per call
+ * does not create a new client and thread pool each time. Call {@link #shutdown()} when the library is no longer
+ * needed (e.g. on application undeploy) to release the pooled connections and threads.
+ */
+public final class HttpClientRegistry {
+
+    /** HttpClient.shutdownNow(), looked up at runtime as it is only available on Java 21+ */
+    private static final MethodHandle SHUTDOWN_NOW = lookupShutdownNow();
+
+    private static final Map<Key, Entry> clients = new ConcurrentHashMap<>();
+
+    private HttpClientRegistry() {
+    }
+
+    /**
+     * Returns the shared client for the given base URL and configuration, creating it on first use.
+     *
+     * @param basePath
+     *            base provider path
+     * @param configuration
+     *            provider configuration
+     * @return shared {@link HttpClient}
+     */
+    public static HttpClient get(final String basePath, final RestProvider.Configuration configuration) {
+        final boolean virtualThreads = (configuration != null) && configuration.isVirtualThreadsEnabled();
+        return clients.computeIfAbsent(new Key(basePath, virtualThreads), key -> new Entry(virtualThreads)).client;
+    }
+
+    /**
+     * Releases all shared clients; subsequent calls create new clients on demand.
+     * <p>
+     * On Java 21+ the clients are shut down: their connections and selector threads are closed at once, and calls
+     * still in flight fail with an {@link java.io.IOException}. Before Java 21 a client cannot be closed, so only its
+     * executor is shut down: calls still in flight may fail with a
+     * {@link java.util.concurrent.RejectedExecutionException}, and the pooled connections and the selector thread live
+     * until the client is garbage-collected.
+     */
+    public static void shutdown() {
+        for (final Key key : clients.keySet()) {
+            final Entry entry = clients.remove(key);
+            if (entry != null) {
+                entry.shutdown();
+            }
+        }
+    }
+
+    private static MethodHandle lookupShutdownNow() {
+        try {
+            return MethodHandles.publicLookup().findVirtual(HttpClient.class, "shutdownNow",
+                    MethodType.methodType(void.class));
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static final class Entry {
+
+        private final ExecutorService executor;
+
+        private final HttpClient client;
+
+        private Entry(final boolean virtualThreads) {
+            executor = ThreadUtils.newExecutor("netlicensing-http", virtualThreads);
+            // Not using authenticator to ensure preemptive authentication
+            client = HttpClient.newBuilder()
+                    .version(Version.HTTP_1_1)
+                    .followRedirects(Redirect.NORMAL)
+                    .executor(executor)
+                    .build();
+        }
+
+        private void shutdown() {
+            if (SHUTDOWN_NOW != null) {
+                try {
+                    SHUTDOWN_NOW.invokeExact(client);
+                } catch (final Throwable e) {
+                    // the executor is shut down anyway
+                }
+            }
+            executor.shutdown();
+        }
+
+    }
+
+    private static final class Key {
+
+        private final String basePath;
+
+        private final boolean virtualThreads;
+
+        private Key(final String basePath, final boolean virtualThreads) {
+            this.basePath = basePath;
+            this.virtualThreads = virtualThreads;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return Objects.equals(basePath, other.basePath) && (virtualThreads == other.virtualThreads);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(basePath, virtualThreads);
+        }
+
+    }
+
+}
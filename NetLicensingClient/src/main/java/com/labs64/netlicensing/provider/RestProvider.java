@@ -12,21 +12,66 @@
  */
 package com.labs64.netlicensing.provider;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 import com.labs64.netlicensing.exception.RestException;
 import com.labs64.netlicensing.provider.auth.Authentication;
+import com.labs64.netlicensing.schema.context.Item;
+import com.labs64.netlicensing.schema.context.Netlicensing;
 
 /**
  */
 public interface RestProvider {
 
+    /**
+     * Parser used to read the service responses.
+     */
+    enum ResponseParser {
+        /** JAXB unmarshaller (default). */
+        JAXB,
+        /** StAX reader building the response tree directly, without the reflective JAXB runtime. */
+        STAX
+    }
+
     public interface Configuration {
 
         String getUserAgent();
 
         boolean isLoggingEnabled();
 
+        /**
+         * Executor used by the asynchronous API for unmarshalling, signature checks and entity conversion of the
+         * responses.
+         *
+         * @return executor to be used, or null to process responses on the HTTP client threads
+         */
+        default Executor getExecutor() {
+            return null;
+        }
+
+        /**
+         * Whether the HTTP client should run its tasks on virtual threads. Only takes effect on Java 21+, older JVMs
+         * keep using a pool of platform threads.
+         *
+         * @return true to use virtual threads where supported
+         */
+        default boolean isVirtualThreadsEnabled() {
+            return false;
+        }
+
+        /**
+         * @return parser to be used for the service responses
+         */
+        default ResponseParser getResponseParser() {
+            return ResponseParser.JAXB;
+        }
+
     }
 
     /**
@@ -53,6 +98,48 @@ public interface RestProvider {
     <REQ, RES> RestResponse<RES> call(String method, String urlTemplate, REQ request, Class<RES> responseType,
             Map<String, String> queryParams) throws RestException;
 
+    /**
+     * Asynchronous variant of {@link #call(String, String, Object, Class, Map)}.
+     * <p>
+     * The default implementation performs the blocking call in the common pool, implementations are expected to
+     * override it with a non-blocking one.
+     *
+     * @return future of the response, completed exceptionally with {@link RestException} in case of a failure
+     */
+    default <REQ, RES> CompletableFuture<RestResponse<RES>> callAsync(final String method, final String urlTemplate,
+            final REQ request, final Class<RES> responseType, final Map<String, String> queryParams) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return call(method, urlTemplate, request, responseType, queryParams);
+            } catch (final RestException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * Variant of {@link #call(String, String, Object, Class, Map)} for list responses: the items of a successful
+     * response are handed to the consumer while the response is being read and are not kept in the returned entity.
+     * <p>
+     * The default implementation reads the complete response first.
+     *
+     * @param itemConsumer
+     *            receives the items of a successful response
+     * @return response, its entity contains everything except the items
+     */
+    default <REQ> RestResponse<Netlicensing> call(final String method, final String urlTemplate, final REQ request,
+            final Map<String, String> queryParams, final Consumer<Item> itemConsumer) throws RestException {
+        final RestResponse<Netlicensing> response = call(method, urlTemplate, request, Netlicensing.class,
+                queryParams);
+        final Netlicensing netlicensing = response.getEntity();
+        if ((response.getStatusCode() == 200) && (netlicensing != null) && (netlicensing.getItems() != null)) {
+            final List<Item> items = new ArrayList<>(netlicensing.getItems().getItem());
+            netlicensing.getItems().getItem().clear();
+            items.forEach(itemConsumer);
+        }
+        return response;
+    }
+
     /**
      * @param username
      *            username used for authentication
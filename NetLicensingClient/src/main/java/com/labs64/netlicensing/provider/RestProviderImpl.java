@@ -12,24 +12,37 @@
  */
 package com.labs64.netlicensing.provider;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
-import java.net.http.HttpClient.Redirect;
-import java.net.http.HttpClient.Version;
 import java.net.http.HttpRequest;
 import java.net.http.HttpRequest.BodyPublishers;
 import java.net.http.HttpRequest.Builder;
 import java.net.http.HttpResponse;
 import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 
 import jakarta.xml.bind.JAXBException;
+import javax.xml.stream.XMLStreamException;
+
+import org.w3c.dom.Document;
+import org.xml.sax.SAXException;
 
 import com.labs64.netlicensing.exception.RestException;
 import com.labs64.netlicensing.provider.auth.Authentication;
+import com.labs64.netlicensing.schema.NetlicensingStreamReader;
+import com.labs64.netlicensing.schema.context.Item;
+import com.labs64.netlicensing.schema.context.Netlicensing;
 import com.labs64.netlicensing.util.ConvertUtils;
 import com.labs64.netlicensing.util.JAXBUtils;
 
@@ -40,7 +53,9 @@ public class RestProviderImpl extends AbstractRestProvider {
 
     private final String basePath;
 
-    private class DefaultConfig implements RestProvider.Configuration {
+    private static final RestProvider.Configuration DEFAULT_CONFIG = new DefaultConfig();
+
+    private static class DefaultConfig implements RestProvider.Configuration {
 
         @Override
         public String getUserAgent() {
@@ -60,7 +75,7 @@ public class RestProviderImpl extends AbstractRestProvider {
      */
     public RestProviderImpl(final String basePath) {
         this.basePath = basePath;
-        configure(new DefaultConfig());
+        configure(DEFAULT_CONFIG);
     }
 
     /*
@@ -70,13 +85,89 @@ public class RestProviderImpl extends AbstractRestProvider {
     @Override
     public <REQ, RES> RestResponse<RES> call(final String httpMethod, final String urlTemplate, final REQ request_arg,
             final Class<RES> responseType, final Map<String, String> queryParams) throws RestException {
+        final HttpRequest request = buildRequest(httpMethod, urlTemplate, request_arg, queryParams);
+        try {
+            final HttpResponse<byte[]> response = getClient().send(request, BodyHandlers.ofByteArray());
+            return readResponse(response, responseType);
+        } catch (final IOException | InterruptedException e) {
+            throw new RestException("Exception while calling service.", e);
+        }
+    }
+
+    /*
+     * @see com.labs64.netlicensing.provider.RestProvider#call(java.lang.String, java.lang.String, java.lang.Object,
+     * java.util.Map, java.util.function.Consumer)
+     */
+    @Override
+    public <REQ> RestResponse<Netlicensing> call(final String httpMethod, final String urlTemplate,
+            final REQ request_arg, final Map<String, String> queryParams, final Consumer<Item> itemConsumer)
+            throws RestException {
+        final HttpRequest request = buildRequest(httpMethod, urlTemplate, request_arg, queryParams);
         try {
-            // Not using authenticator to ensure preemptive authentication
-            HttpClient client = HttpClient.newBuilder()
-                    .version(Version.HTTP_1_1)
-                    .followRedirects(Redirect.NORMAL)
-                    .build();
+            final HttpResponse<InputStream> response = getClient().send(request, BodyHandlers.ofInputStream());
+            try (InputStream body = response.body()) {
+                final RestResponse<Netlicensing> restResponse = new RestResponse<>();
+                restResponse.setStatusCode(response.statusCode());
+                restResponse.setHeaders(response.headers().map());
+                if (response.statusCode() == 200) {
+                    try {
+                        restResponse.setEntity(new NetlicensingStreamReader().read(body, itemConsumer));
+                    } catch (final XMLStreamException e) {
+                        throw new RestException("Could not interpret the response body.", e);
+                    }
+                } else {
+                    // error responses are small, read as usual
+                    restResponse.setEntity(readEntity(body.readAllBytes(), response.statusCode(),
+                            Netlicensing.class));
+                }
+                return restResponse;
+            }
+        } catch (final IOException | InterruptedException e) {
+            throw new RestException("Exception while calling service.", e);
+        }
+    }
 
+    /*
+     * @see com.labs64.netlicensing.provider.RestProvider#callAsync(java.lang.String, java.lang.String,
+     * java.lang.Object, java.lang.Class, java.util.Map)
+     */
+    @Override
+    public <REQ, RES> CompletableFuture<RestResponse<RES>> callAsync(final String httpMethod, final String urlTemplate,
+            final REQ request_arg, final Class<RES> responseType, final Map<String, String> queryParams) {
+        final HttpRequest request;
+        try {
+            request = buildRequest(httpMethod, urlTemplate, request_arg, queryParams);
+        } catch (final RestException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        final BiFunction<HttpResponse<byte[]>, Throwable, RestResponse<RES>> reader = (response, ex) -> {
+            if (ex != null) {
+                final Throwable cause = (ex instanceof CompletionException) && (ex.getCause() != null)
+                        ? ex.getCause()
+                        : ex;
+                throw new CompletionException(new RestException("Exception while calling service.", cause));
+            }
+            try {
+                return readResponse(response, responseType);
+            } catch (final RestException e) {
+                throw new CompletionException(e);
+            }
+        };
+
+        final CompletableFuture<HttpResponse<byte[]>> response = getClient().sendAsync(request,
+                BodyHandlers.ofByteArray());
+        final Executor executor = getConfiguration().getExecutor();
+        return (executor != null) ? response.handleAsync(reader, executor) : response.handle(reader);
+    }
+
+    private HttpClient getClient() {
+        return HttpClientRegistry.get(this.basePath, getConfiguration());
+    }
+
+    private <REQ> HttpRequest buildRequest(final String httpMethod, final String urlTemplate, final REQ request_arg,
+            final Map<String, String> queryParams) throws RestException {
+        try {
             String query;
             if ((queryParams == null) || (queryParams.isEmpty())) {
                 query = "";
@@ -105,43 +196,63 @@ public class RestProviderImpl extends AbstractRestProvider {
                 requestBuilder.method(httpMethod, BodyPublishers.noBody());
             }
 
-            HttpRequest request = requestBuilder.build();
-            HttpResponse<String> response = client.send(request, BodyHandlers.ofString());
-
-            final RestResponse<RES> restResponse = new RestResponse<>();
-            restResponse.setStatusCode(response.statusCode());
-            restResponse.setHeaders(response.headers().map());
-            restResponse.setEntity(readEntity(response.body(), response.statusCode(), responseType));
-            return restResponse;
-        } catch (final IOException | InterruptedException e) {
+            return requestBuilder.build();
+        } catch (final IOException e) {
             throw new RestException("Exception while calling service.", e);
         }
     }
 
+    private <RES> RestResponse<RES> readResponse(final HttpResponse<byte[]> response, final Class<RES> responseType)
+            throws RestException {
+        final RestResponse<RES> restResponse = new RestResponse<>();
+        restResponse.setStatusCode(response.statusCode());
+        restResponse.setHeaders(response.headers().map());
+        restResponse.setEntity(readEntity(response.body(), response.statusCode(), responseType));
+        return restResponse;
+    }
+
     /**
      * Reads entity of given type from response. Returns null when the response has a zero-length content.
+     * <p>
+     * The raw body bytes are handed to the parser as is, letting it detect the document encoding; the body is only
+     * decoded to a string for the error message if it cannot be interpreted.
      *
-     * @param response
-     *            service response
+     * @param body
+     *            raw response body
+     * @param statusCode
+     *            response status code
      * @param responseType
      *            expected response type
      * @return the response entity
      * @throws RestException
      */
-    private <RES> RES readEntity(final String body, int statusCode, final Class<RES> responseType) throws RestException {
-        if ((statusCode == 204) && body.isEmpty()) {
+    private <RES> RES readEntity(final byte[] body, final int statusCode, final Class<RES> responseType)
+            throws RestException {
+        if ((statusCode == 204) && (body.length == 0)) {
             return null;
         }
 
         try {
-            return JAXBUtils.readObjectFromString(body, responseType);
-        } catch (final JAXBException ex) {
+            return parse(body, responseType);
+        } catch (final JAXBException | XMLStreamException | SAXException ex) {
             int statusFamily = statusCode / 100;
             if ((statusFamily == 4) || (statusFamily == 5)) {  // 4xx - Client Error, 5xx - Server Error
                 return null; // Ignore content interpretation errors if status is an error already
             }
-            throw new RestException("Could not interpret the response body.\n" + body, ex);
+            throw new RestException("Could not interpret the response body.\n"
+                    + new String(body, StandardCharsets.UTF_8), ex);
+        }
+    }
+
+    private <RES> RES parse(final byte[] body, final Class<RES> responseType)
+            throws JAXBException, XMLStreamException, SAXException {
+        if (responseType == Document.class) {
+            return responseType.cast(JAXBUtils.readDocumentFromBytes(body));
+        }
+        if ((responseType == Netlicensing.class) && (getConfiguration().getResponseParser() == ResponseParser.STAX)) {
+            return responseType.cast(new NetlicensingStreamReader().read(new ByteArrayInputStream(body)));
         }
+        return JAXBUtils.readObjectFromBytes(body, responseType);
     }
 
 }
@@ -0,0 +1,226 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.labs64.netlicensing.schema;
+
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+import javax.xml.XMLConstants;
+import javax.xml.datatype.DatatypeConfigurationException;
+import javax.xml.datatype.DatatypeFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import com.labs64.netlicensing.schema.context.Info;
+import com.labs64.netlicensing.schema.context.InfoEnum;
+import com.labs64.netlicensing.schema.context.Item;
+import com.labs64.netlicensing.schema.context.List;
+import com.labs64.netlicensing.schema.context.Netlicensing;
+import com.labs64.netlicensing.schema.context.Property;
+
+/**
+ * StAX based reader of the netlicensing-context wire format.
+ * <p>
+ * Builds the same {@link Netlicensing} tree as the JAXB unmarshaller, without the reflective JAXB runtime. Elements
+ * unknown to the schema are skipped, as is the <code>ds:Signature</code> element: signed responses are verified on
+ * the DOM before they are read. {@link #read(InputStream)} still builds the complete tree; only with an item consumer
+ * ({@link #read(InputStream, Consumer)}) the items are handed over one by one instead of being collected.
+ * <p>
+ * A reader is not thread-safe; create one per document.
+ */
+public final class NetlicensingStreamReader {
+
+    private static final String NS = "http://netlicensing.labs64.com/schema/context";
+
+    private static final XMLInputFactory inputFactory = createInputFactory();
+
+    /** created on the first ttl, as {@link DatatypeFactory} is not guaranteed to be thread-safe */
+    private DatatypeFactory datatypeFactory;
+
+    /**
+     * Reads the complete document.
+     *
+     * @param inputStream
+     *            XML document
+     * @return document tree
+     * @throws XMLStreamException
+     *             if the document is not well-formed or has an unexpected root element
+     */
+    public Netlicensing read(final InputStream inputStream) throws XMLStreamException {
+        return read(inputStream, null);
+    }
+
+    /**
+     * Reads the document, handing over the items one by one.
+     *
+     * @param inputStream
+     *            XML document
+     * @param itemConsumer
+     *            receives every item as soon as it is read; items passed to the consumer are not added to the
+     *            returned tree. If null, the items are collected in the tree.
+     * @return document tree
+     * @throws XMLStreamException
+     *             if the document is not well-formed or has an unexpected root element
+     */
+    public Netlicensing read(final InputStream inputStream, final Consumer<Item> itemConsumer)
+            throws XMLStreamException {
+        final XMLStreamReader reader = inputFactory.createXMLStreamReader(inputStream);
+        try {
+            reader.nextTag();
+            if (!isElement(reader, "netlicensing")) {
+                throw new XMLStreamException("Unexpected root element " + reader.getName(), reader.getLocation());
+            }
+            return readNetlicensing(reader, itemConsumer);
+        } finally {
+            reader.close();
+        }
+    }
+
+    private Netlicensing readNetlicensing(final XMLStreamReader reader, final Consumer<Item> itemConsumer)
+            throws XMLStreamException {
+        final Netlicensing netlicensing = new Netlicensing();
+        netlicensing.setId(reader.getAttributeValue(null, "id"));
+        final String ttl = reader.getAttributeValue(null, "ttl");
+        if (ttl != null) {
+            try {
+                if (datatypeFactory == null) {
+                    datatypeFactory = createDatatypeFactory();
+                }
+                netlicensing.setTtl(datatypeFactory.newXMLGregorianCalendar(ttl.trim()));
+            } catch (final IllegalArgumentException e) {
+                throw new XMLStreamException("Invalid ttl '" + ttl + "'", reader.getLocation(), e);
+            }
+        }
+
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            if (isElement(reader, "infos")) {
+                netlicensing.setInfos(readInfos(reader));
+            } else if (isElement(reader, "items")) {
+                netlicensing.setItems(readItems(reader, itemConsumer));
+            } else {
+                skipElement(reader);
+            }
+        }
+        return netlicensing;
+    }
+
+    private Netlicensing.Infos readInfos(final XMLStreamReader reader) throws XMLStreamException {
+        final Netlicensing.Infos infos = new Netlicensing.Infos();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            if (isElement(reader, "info")) {
+                final Info info = new Info();
+                info.setId(reader.getAttributeValue(null, "id"));
+                info.setType(infoType(reader.getAttributeValue(null, "type")));
+                info.setValue(reader.getElementText());
+                infos.getInfo().add(info);
+            } else {
+                skipElement(reader);
+            }
+        }
+        return infos;
+    }
+
+    private Netlicensing.Items readItems(final XMLStreamReader reader, final Consumer<Item> itemConsumer)
+            throws XMLStreamException {
+        final Netlicensing.Items items = new Netlicensing.Items();
+        items.setPagenumber(reader.getAttributeValue(null, "pagenumber"));
+        items.setItemsnumber(reader.getAttributeValue(null, "itemsnumber"));
+        items.setTotalpages(reader.getAttributeValue(null, "totalpages"));
+        items.setTotalitems(reader.getAttributeValue(null, "totalitems"));
+        items.setHasnext(reader.getAttributeValue(null, "hasnext"));
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            if (isElement(reader, "item")) {
+                final Item item = new Item();
+                item.setType(reader.getAttributeValue(null, "type"));
+                readContent(reader, item.getProperty(), item.getList());
+                if (itemConsumer != null) {
+                    itemConsumer.accept(item);
+                } else {
+                    items.getItem().add(item);
+                }
+            } else {
+                skipElement(reader);
+            }
+        }
+        return items;
+    }
+
+    private void readContent(final XMLStreamReader reader, final java.util.List<Property> properties,
+            final java.util.List<List> lists) throws XMLStreamException {
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            if (isElement(reader, "property")) {
+                final String name = reader.getAttributeValue(null, "name");
+                properties.add(new Property(reader.getElementText(), name));
+            } else if (isElement(reader, "list")) {
+                final List list = new List();
+                list.setName(reader.getAttributeValue(null, "name"));
+                readContent(reader, list.getProperty(), list.getList());
+                lists.add(list);
+            } else {
+                skipElement(reader);
+            }
+        }
+    }
+
+    private static boolean isElement(final XMLStreamReader reader, final String localName) {
+        return NS.equals(reader.getNamespaceURI()) && localName.equals(reader.getLocalName());
+    }
+
+    private static void skipElement(final XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static InfoEnum infoType(final String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return InfoEnum.fromValue(value.trim());
+        } catch (final IllegalArgumentException e) {
+            return null; // same as JAXB for unknown enumeration values
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.TRUE);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
+        try {
+            factory.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+        } catch (final IllegalArgumentException e) {
+            // property not supported by the StAX implementation
+        }
+        return factory;
+    }
+
+    private static DatatypeFactory createDatatypeFactory() {
+        try {
+            return DatatypeFactory.newInstance();
+        } catch (final DatatypeConfigurationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
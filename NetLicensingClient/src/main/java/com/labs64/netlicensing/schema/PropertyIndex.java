@@ -0,0 +1,79 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.labs64.netlicensing.schema;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.labs64.netlicensing.schema.context.Property;
+
+/**
+ * Index of a property collection by name, for resolving many properties of one item without scanning the collection
+ * for each of them. Property names are not case-sensitive; if several properties have the same name, the first one
+ * is found, as with {@link SchemaFunction#propertyByName(List, String)}.
+ * <p>
+ * The index is a snapshot: later changes of the collection are not reflected.
+ */
+public final class PropertyIndex {
+
+    private final Map<String, Property> properties = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    private PropertyIndex(final List<Property> properties) {
+        for (final Property property : properties) {
+            if (property.getName() != null) {
+                this.properties.putIfAbsent(property.getName(), property);
+            }
+        }
+    }
+
+    /**
+     * @param properties
+     *            properties collection
+     * @return index of the properties by name
+     */
+    public static PropertyIndex of(final List<Property> properties) {
+        return new PropertyIndex(properties);
+    }
+
+    /**
+     * @param name
+     *            property name
+     * @return true if a property with the given name is present
+     */
+    public boolean contains(final String name) {
+        return properties.containsKey(name);
+    }
+
+    /**
+     * @param name
+     *            property name
+     * @return property value, or null if no property with the given name is present
+     */
+    public String getValue(final String name) {
+        return getValue(name, null);
+    }
+
+    /**
+     * @param name
+     *            property name
+     * @param defaultValue
+     *            value to be returned if no property with the given name is present
+     * @return property value, or the default value if no property with the given name is present
+     */
+    public String getValue(final String name, final String defaultValue) {
+        final Property property = properties.get(name);
+        return (property != null) ? property.getValue() : defaultValue;
+    }
+
+}
@@ -21,9 +21,8 @@ import com.labs64.netlicensing.domain.entity.impl.LicenseTemplateImpl;
 import com.labs64.netlicensing.domain.vo.Currency;
 import com.labs64.netlicensing.domain.vo.Money;
 import com.labs64.netlicensing.exception.ConversionException;
-import com.labs64.netlicensing.schema.SchemaFunction;
+import com.labs64.netlicensing.schema.PropertyIndex;
 import com.labs64.netlicensing.schema.context.Item;
-import com.labs64.netlicensing.schema.context.Property;
 
 /**
  * Convert {@link Item} entity into {@link Bundle} object.
@@ -31,29 +30,25 @@ import com.labs64.netlicensing.schema.context.Property;
 public class ItemToBundleConverter extends ItemToEntityBaseConverter<Bundle> {
 
     @Override
-    public Bundle convert(final Item source) throws ConversionException {
-        final Bundle target = super.convert(source);
+    protected Bundle convert(final Item source, final PropertyIndex properties) throws ConversionException {
+        final Bundle target = super.convert(source, properties);
 
-        target.setName(SchemaFunction.propertyByName(source.getProperty(), Constants.NAME).getValue());
-        target.setDescription(SchemaFunction.propertyByName(source.getProperty(), Constants.Bundle.DESCRIPTION).getValue());
-        if (SchemaFunction.propertyByName(source.getProperty(), Constants.PRICE).getValue() != null) {
-            final Money price = convertPrice(source.getProperty(), Constants.PRICE);
+        target.setName(properties.getValue(Constants.NAME));
+        target.setDescription(properties.getValue(Constants.Bundle.DESCRIPTION));
+        if (properties.getValue(Constants.PRICE) != null) {
+            final Money price = convertPrice(properties, Constants.PRICE);
             target.setPrice(price.getAmount());
             target.setCurrency(Currency.valueOf(price.getCurrencyCode()));
         }
 
-        final String licenseTemplateNumbers = SchemaFunction.propertyByName(source.getProperty(), Constants.Bundle.LICENSE_TEMPLATE_NUMBERS).getValue();
+        final String licenseTemplateNumbers = properties.getValue(Constants.Bundle.LICENSE_TEMPLATE_NUMBERS);
 
         if (licenseTemplateNumbers != null) {
             target.setLicenseTemplateNumbers(Arrays.asList(licenseTemplateNumbers.split(",")));
         }
         
         // Custom properties
-        for (final Property property : source.getProperty()) {
-            if (!LicenseTemplateImpl.getReservedProps().contains(property.getName())) {
-                target.getProperties().put(property.getName(), property.getValue());
-            }
-        }
+        convertCustomProperties(source, LicenseTemplateImpl.getReservedProps(), target);
 
         return target;
     }
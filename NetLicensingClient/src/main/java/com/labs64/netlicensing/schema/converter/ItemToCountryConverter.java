@@ -18,7 +18,7 @@ import com.labs64.netlicensing.domain.Constants;
 import com.labs64.netlicensing.domain.entity.Country;
 import com.labs64.netlicensing.domain.entity.impl.CountryImpl;
 import com.labs64.netlicensing.exception.ConversionException;
-import com.labs64.netlicensing.schema.SchemaFunction;
+import com.labs64.netlicensing.schema.PropertyIndex;
 import com.labs64.netlicensing.schema.context.Item;
 
 /**
@@ -27,22 +27,24 @@ import com.labs64.netlicensing.schema.context.Item;
 public class ItemToCountryConverter extends ItemToEntityBaseConverter<Country> {
 
     @Override
-    public Country convert(final Item source) throws ConversionException {
-        final Country target = super.convert(source);
+    protected Country convert(final Item source, final PropertyIndex properties) throws ConversionException {
+        final Country target = super.convert(source, properties);
 
-        if (SchemaFunction.propertyByName(source.getProperty(), Constants.Country.CODE).getValue() != null) {
-            target.setCode(SchemaFunction.propertyByName(source.getProperty(), Constants.Country.CODE).getValue());
+        final String code = properties.getValue(Constants.Country.CODE);
+        if (code != null) {
+            target.setCode(code);
         }
-        if (SchemaFunction.propertyByName(source.getProperty(), Constants.Country.NAME).getValue() != null) {
-            target.setName(SchemaFunction.propertyByName(source.getProperty(), Constants.Country.NAME).getValue());
+        final String name = properties.getValue(Constants.Country.NAME);
+        if (name != null) {
+            target.setName(name);
         }
-        if (SchemaFunction.propertyByName(source.getProperty(), Constants.Country.VAT_PERCENT).getValue() != null) {
-            target.setVatPercent(DatatypeConverter.parseDecimal(
-                    SchemaFunction.propertyByName(source.getProperty(), Constants.Country.VAT_PERCENT).getValue()));
+        final String vatPercent = properties.getValue(Constants.Country.VAT_PERCENT);
+        if (vatPercent != null) {
+            target.setVatPercent(DatatypeConverter.parseDecimal(vatPercent));
         }
-        if (SchemaFunction.propertyByName(source.getProperty(), Constants.Country.IS_EU).getValue() != null) {
-            target.setIsEu(Boolean
-                    .valueOf(SchemaFunction.propertyByName(source.getProperty(), Constants.Country.IS_EU).getValue()));
+        final String isEu = properties.getValue(Constants.Country.IS_EU);
+        if (isEu != null) {
+            target.setIsEu(Boolean.valueOf(isEu));
         }
         return target;
     }
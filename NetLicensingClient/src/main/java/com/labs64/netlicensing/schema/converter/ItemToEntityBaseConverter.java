@@ -18,7 +18,7 @@ import com.labs64.netlicensing.domain.Constants;
 import com.labs64.netlicensing.domain.entity.BaseEntity;
 import com.labs64.netlicensing.domain.vo.Money;
 import com.labs64.netlicensing.exception.ConversionException;
-import com.labs64.netlicensing.schema.SchemaFunction;
+import com.labs64.netlicensing.schema.PropertyIndex;
 import com.labs64.netlicensing.schema.context.Item;
 import com.labs64.netlicensing.schema.context.Property;
 
@@ -31,6 +31,22 @@ abstract class ItemToEntityBaseConverter<T extends BaseEntity> implements Conver
 
     @Override
     public T convert(final Item source) throws ConversionException {
+        return convert(source, PropertyIndex.of(source.getProperty()));
+    }
+
+    /**
+     * Converts the item, resolving its properties from the given index rather than scanning the property collection
+     * once per property.
+     *
+     * @param source
+     *            item to convert
+     * @param properties
+     *            index of the item properties
+     * @return converted entity
+     * @throws ConversionException
+     *             if the item can't be converted
+     */
+    protected T convert(final Item source, final PropertyIndex properties) throws ConversionException {
         final T target = newTarget();
 
         final String entityClass = target.getClass().getInterfaces()[0].getSimpleName();
@@ -40,26 +56,44 @@ abstract class ItemToEntityBaseConverter<T extends BaseEntity> implements Conver
                     String.format("Wrong item type '%s', expected '%s'.", sourceType, entityClass));
         }
 
-        target.setActive(Boolean.parseBoolean(
-                SchemaFunction.propertyByName(source.getProperty(), Constants.ACTIVE, Boolean.FALSE.toString())
-                        .getValue()));
-        target.setNumber(SchemaFunction.propertyByName(source.getProperty(), Constants.NUMBER).getValue());
+        target.setActive(Boolean.parseBoolean(properties.getValue(Constants.ACTIVE, Boolean.FALSE.toString())));
+        target.setNumber(properties.getValue(Constants.NUMBER));
 
         return target;
     }
 
+    /**
+     * Copies the item properties that are not reserved into the custom properties of the entity, sharing canonical
+     * instances of the property names and common values.
+     *
+     * @param source
+     *            item to convert
+     * @param reservedProps
+     *            names of the properties not to be copied
+     * @param target
+     *            entity receiving the custom properties
+     */
+    static void convertCustomProperties(final Item source, final List<String> reservedProps, final BaseEntity target) {
+        for (final Property property : source.getProperty()) {
+            if (!reservedProps.contains(property.getName())) {
+                target.addProperty(PropertyInterner.name(property.getName()),
+                        PropertyInterner.value(property.getValue()));
+            }
+        }
+    }
+
     /**
      * Converts price with currency from NetLicensing XML representation to the internal Money value.
      * 
      * @param source
-     *            - collection of properties from NetLicensing XML
+     *            - index of the properties from NetLicensing XML
      * @param priceProperty
      *            - the property name holding price value, currency always assumed in Constants.CURRENCY
      * @return converted money object
      */
-    static Money convertPrice(final List<Property> source, final String priceProperty) {
-        final String rawPrice = SchemaFunction.propertyByName(source, priceProperty).getValue();
-        final String rawCurrency = SchemaFunction.propertyByName(source, Constants.CURRENCY).getValue();
+    static Money convertPrice(final PropertyIndex source, final String priceProperty) {
+        final String rawPrice = source.getValue(priceProperty);
+        final String rawCurrency = source.getValue(Constants.CURRENCY);
         return Money.convertPrice(rawPrice, rawCurrency);
     }
 
@@ -21,9 +21,8 @@ import com.labs64.netlicensing.domain.entity.impl.LicenseTemplateImpl;
 import com.labs64.netlicensing.domain.entity.impl.LicenseeImpl;
 import com.labs64.netlicensing.domain.vo.Currency;
 import com.labs64.netlicensing.exception.ConversionException;
-import com.labs64.netlicensing.schema.SchemaFunction;
+import com.labs64.netlicensing.schema.PropertyIndex;
 import com.labs64.netlicensing.schema.context.Item;
-import com.labs64.netlicensing.schema.context.Property;
 
 /**
  * Convert {@link Item} entity into {@link License} object.
@@ -31,40 +30,33 @@ import com.labs64.netlicensing.schema.context.Property;
 public class ItemToLicenseConverter extends ItemToEntityBaseConverter<License> {
 
     @Override
-    public License convert(final Item source) throws ConversionException {
-        final License target = super.convert(source);
+    protected License convert(final Item source, final PropertyIndex properties) throws ConversionException {
+        final License target = super.convert(source, properties);
 
-        target.setName(SchemaFunction.propertyByName(source.getProperty(), Constants.NAME).getValue());
-        if (SchemaFunction.propertyByName(source.getProperty(), Constants.PRICE).getValue() != null) {
-            target.setPrice(DatatypeConverter.parseDecimal(SchemaFunction.propertyByName(source.getProperty(),
-                    Constants.PRICE).getValue()));
+        target.setName(properties.getValue(Constants.NAME));
+        final String price = properties.getValue(Constants.PRICE);
+        if (price != null) {
+            target.setPrice(DatatypeConverter.parseDecimal(price));
         }
-        if (SchemaFunction.propertyByName(source.getProperty(), Constants.CURRENCY).getValue() != null) {
-            target.setCurrency(Currency.valueOf(SchemaFunction.propertyByName(source.getProperty(), Constants.CURRENCY)
-                    .getValue()));
+        final String currency = properties.getValue(Constants.CURRENCY);
+        if (currency != null) {
+            target.setCurrency(Currency.valueOf(currency));
         }
-        target.setHidden(Boolean.parseBoolean(SchemaFunction.propertyByName(source.getProperty(),
-                Constants.License.HIDDEN, Boolean.FALSE.toString()).getValue()));
+        target.setHidden(Boolean.parseBoolean(properties.getValue(Constants.License.HIDDEN,
+                Boolean.FALSE.toString())));
 
         // Custom properties
-        for (final Property property : source.getProperty()) {
-            if (!LicenseImpl.getReservedProps().contains(property.getName())) {
-                target.getProperties().put(property.getName(), property.getValue());
-            }
-        }
+        convertCustomProperties(source, LicenseImpl.getReservedProps(), target);
 
         target.setLicensee(new LicenseeImpl());
         target.getLicensee()
         .setNumber(
-                SchemaFunction.propertyByName(source.getProperty(), Constants.Licensee.LICENSEE_NUMBER)
-                .getValue());
+                properties.getValue(Constants.Licensee.LICENSEE_NUMBER));
 
         target.setLicenseTemplate(new LicenseTemplateImpl());
         target.getLicenseTemplate()
         .setNumber(
-                SchemaFunction.propertyByName(source.getProperty(),
-                        Constants.LicenseTemplate.LICENSE_TEMPLATE_NUMBER)
-                .getValue());
+                properties.getValue(Constants.LicenseTemplate.LICENSE_TEMPLATE_NUMBER));
 
         return target;
     }
@@ -20,9 +20,8 @@ import com.labs64.netlicensing.domain.vo.Currency;
 import com.labs64.netlicensing.domain.vo.LicenseType;
 import com.labs64.netlicensing.domain.vo.Money;
 import com.labs64.netlicensing.exception.ConversionException;
-import com.labs64.netlicensing.schema.SchemaFunction;
+import com.labs64.netlicensing.schema.PropertyIndex;
 import com.labs64.netlicensing.schema.context.Item;
-import com.labs64.netlicensing.schema.context.Property;
 
 /**
  * Convert {@link Item} entity into {@link LicenseTemplate} object.
@@ -30,38 +29,29 @@ import com.labs64.netlicensing.schema.context.Property;
 public class ItemToLicenseTemplateConverter extends ItemToEntityBaseConverter<LicenseTemplate> {
 
     @Override
-    public LicenseTemplate convert(final Item source) throws ConversionException {
-        final LicenseTemplate target = super.convert(source);
+    protected LicenseTemplate convert(final Item source, final PropertyIndex properties) throws ConversionException {
+        final LicenseTemplate target = super.convert(source, properties);
 
-        target.setName(SchemaFunction.propertyByName(source.getProperty(), Constants.NAME).getValue());
-        target.setLicenseType(LicenseType.valueOf(SchemaFunction.propertyByName(source.getProperty(),
-                Constants.LicenseTemplate.LICENSE_TYPE).getValue()));
-        if (SchemaFunction.propertyByName(source.getProperty(), Constants.PRICE).getValue() != null) {
-            final Money price = convertPrice(source.getProperty(), Constants.PRICE);
+        target.setName(properties.getValue(Constants.NAME));
+        target.setLicenseType(LicenseType.valueOf(properties.getValue(Constants.LicenseTemplate.LICENSE_TYPE)));
+        if (properties.getValue(Constants.PRICE) != null) {
+            final Money price = convertPrice(properties, Constants.PRICE);
             target.setPrice(price.getAmount());
             target.setCurrency(Currency.valueOf(price.getCurrencyCode()));
         }
-        target.setAutomatic(Boolean.parseBoolean(SchemaFunction.propertyByName(source.getProperty(),
-                Constants.LicenseTemplate.AUTOMATIC,
-                Boolean.FALSE.toString()).getValue()));
-        target.setHidden(Boolean.parseBoolean(SchemaFunction.propertyByName(source.getProperty(),
-                Constants.LicenseTemplate.HIDDEN,
-                Boolean.FALSE.toString()).getValue()));
-        target.setHideLicenses(Boolean.parseBoolean(SchemaFunction.propertyByName(source.getProperty(),
-                Constants.LicenseTemplate.HIDE_LICENSES,
-                Boolean.FALSE.toString()).getValue()));
+        target.setAutomatic(Boolean.parseBoolean(properties.getValue(Constants.LicenseTemplate.AUTOMATIC,
+                Boolean.FALSE.toString())));
+        target.setHidden(Boolean.parseBoolean(properties.getValue(Constants.LicenseTemplate.HIDDEN,
+                Boolean.FALSE.toString())));
+        target.setHideLicenses(Boolean.parseBoolean(properties.getValue(Constants.LicenseTemplate.HIDE_LICENSES,
+                Boolean.FALSE.toString())));
 
         // Custom properties
-        for (final Property property : source.getProperty()) {
-            if (!LicenseTemplateImpl.getReservedProps().contains(property.getName())) {
-                target.getProperties().put(property.getName(), property.getValue());
-            }
-        }
+        convertCustomProperties(source, LicenseTemplateImpl.getReservedProps(), target);
 
         target.setProductModule(new ProductModuleImpl());
         target.getProductModule().setNumber(
-                SchemaFunction.propertyByName(source.getProperty(), Constants.ProductModule.PRODUCT_MODULE_NUMBER)
-                .getValue());
+                properties.getValue(Constants.ProductModule.PRODUCT_MODULE_NUMBER));
 
         return target;
     }
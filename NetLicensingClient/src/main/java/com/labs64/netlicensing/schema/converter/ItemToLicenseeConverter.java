@@ -17,9 +17,8 @@ import com.labs64.netlicensing.domain.entity.Licensee;
 import com.labs64.netlicensing.domain.entity.impl.LicenseeImpl;
 import com.labs64.netlicensing.domain.entity.impl.ProductImpl;
 import com.labs64.netlicensing.exception.ConversionException;
-import com.labs64.netlicensing.schema.SchemaFunction;
+import com.labs64.netlicensing.schema.PropertyIndex;
 import com.labs64.netlicensing.schema.context.Item;
-import com.labs64.netlicensing.schema.context.Property;
 
 /**
  * Convert {@link Item} entity into {@link Licensee} object.
@@ -27,19 +26,15 @@ import com.labs64.netlicensing.schema.context.Property;
 public class ItemToLicenseeConverter extends ItemToEntityBaseConverter<Licensee> {
 
     @Override
-    public Licensee convert(final Item source) throws ConversionException {
-        final Licensee target = super.convert(source);
+    protected Licensee convert(final Item source, final PropertyIndex properties) throws ConversionException {
+        final Licensee target = super.convert(source, properties);
 
         // Custom properties
-        for (final Property property : source.getProperty()) {
-            if (!LicenseeImpl.getReservedProps().contains(property.getName())) {
-                target.getProperties().put(property.getName(), property.getValue());
-            }
-        }
+        convertCustomProperties(source, LicenseeImpl.getReservedProps(), target);
 
         target.setProduct(new ProductImpl());
         target.getProduct().setNumber(
-                SchemaFunction.propertyByName(source.getProperty(), Constants.Product.PRODUCT_NUMBER).getValue());
+                properties.getValue(Constants.Product.PRODUCT_NUMBER));
 
         return target;
     }
@@ -23,9 +23,8 @@ import com.labs64.netlicensing.domain.entity.impl.NotificationImpl;
 import com.labs64.netlicensing.domain.vo.Event;
 import com.labs64.netlicensing.domain.vo.NotificationProtocol;
 import com.labs64.netlicensing.exception.ConversionException;
-import com.labs64.netlicensing.schema.SchemaFunction;
+import com.labs64.netlicensing.schema.PropertyIndex;
 import com.labs64.netlicensing.schema.context.Item;
-import com.labs64.netlicensing.schema.context.Property;
 
 /**
  * Convert {@link Item} entity into {@link Product} object.
@@ -33,33 +32,29 @@ import com.labs64.netlicensing.schema.context.Property;
 public class ItemToNotificationConverter extends ItemToEntityBaseConverter<Notification> {
 
     @Override
-    public Notification convert(final Item source) throws ConversionException {
-        final Notification target = super.convert(source);
+    protected Notification convert(final Item source, final PropertyIndex properties) throws ConversionException {
+        final Notification target = super.convert(source, properties);
 
-        target.setName(SchemaFunction.propertyByName(source.getProperty(), Constants.NAME).getValue());
+        target.setName(properties.getValue(Constants.NAME));
 
         final Set<Event> events = Arrays
-                .stream(SchemaFunction.propertyByName(source.getProperty(), Constants.Notification.EVENTS).getValue().split(","))
+                .stream(properties.getValue(Constants.Notification.EVENTS).split(","))
                 .map(Event::parseString)
                 .collect(Collectors.toSet());
 
         target.setEvents(events);
-        target.setProtocol(NotificationProtocol.parseString(SchemaFunction.propertyByName(source.getProperty(), Constants.Notification.PROTOCOL).getValue()));
+        target.setProtocol(NotificationProtocol.parseString(properties.getValue(Constants.Notification.PROTOCOL)));
         
-        final String endpoint = SchemaFunction.propertyByName(source.getProperty(), Constants.Notification.ENDPOINT).getValue();
+        final String endpoint = properties.getValue(Constants.Notification.ENDPOINT);
 
         if (endpoint != null) {
             target.addProperty(Constants.Notification.ENDPOINT, endpoint);
         }
 
-        target.setPayload(SchemaFunction.propertyByName(source.getProperty(), Constants.Notification.PAYLOAD).getValue());
+        target.setPayload(properties.getValue(Constants.Notification.PAYLOAD));
 
         // Custom properties
-        for (final Property property : source.getProperty()) {
-            if (!NotificationImpl.getReservedProps().contains(property.getName())) {
-                target.addProperty(property.getName(), property.getValue());
-            }
-        }
+        convertCustomProperties(source, NotificationImpl.getReservedProps(), target);
 
         return target;
     }
@@ -17,9 +17,8 @@ import com.labs64.netlicensing.domain.entity.ProductModule;
 import com.labs64.netlicensing.domain.entity.impl.ProductImpl;
 import com.labs64.netlicensing.domain.entity.impl.ProductModuleImpl;
 import com.labs64.netlicensing.exception.ConversionException;
-import com.labs64.netlicensing.schema.SchemaFunction;
+import com.labs64.netlicensing.schema.PropertyIndex;
 import com.labs64.netlicensing.schema.context.Item;
-import com.labs64.netlicensing.schema.context.Property;
 
 /**
  * Convert {@link Item} entity into {@link ProductModule} object.
@@ -27,23 +26,18 @@ import com.labs64.netlicensing.schema.context.Property;
 public class ItemToProductModuleConverter extends ItemToEntityBaseConverter<ProductModule> {
 
     @Override
-    public ProductModule convert(final Item source) throws ConversionException {
-        final ProductModule target = super.convert(source);
+    protected ProductModule convert(final Item source, final PropertyIndex properties) throws ConversionException {
+        final ProductModule target = super.convert(source, properties);
 
-        target.setName(SchemaFunction.propertyByName(source.getProperty(), Constants.NAME).getValue());
-        target.setLicensingModel(SchemaFunction.propertyByName(source.getProperty(),
-                Constants.ProductModule.LICENSING_MODEL).getValue());
+        target.setName(properties.getValue(Constants.NAME));
+        target.setLicensingModel(properties.getValue(Constants.ProductModule.LICENSING_MODEL));
 
         target.setProduct(new ProductImpl());
         target.getProduct().setNumber(
-                SchemaFunction.propertyByName(source.getProperty(), Constants.Product.PRODUCT_NUMBER).getValue());
+                properties.getValue(Constants.Product.PRODUCT_NUMBER));
 
         // Custom properties
-        for (final Property property : source.getProperty()) {
-            if (!ProductModuleImpl.getReservedProps().contains(property.getName())) {
-                target.getProperties().put(property.getName(), property.getValue());
-            }
-        }
+        convertCustomProperties(source, ProductModuleImpl.getReservedProps(), target);
 
         return target;
     }
@@ -12,14 +12,15 @@
  */
 package com.labs64.netlicensing.schema.converter;
 
+import java.util.Date;
+
 import com.labs64.netlicensing.domain.Constants;
 import com.labs64.netlicensing.domain.entity.Token;
 import com.labs64.netlicensing.domain.entity.impl.TokenImpl;
 import com.labs64.netlicensing.domain.vo.TokenType;
 import com.labs64.netlicensing.exception.ConversionException;
-import com.labs64.netlicensing.schema.SchemaFunction;
+import com.labs64.netlicensing.schema.PropertyIndex;
 import com.labs64.netlicensing.schema.context.Item;
-import com.labs64.netlicensing.schema.context.Property;
 import com.labs64.netlicensing.util.DateUtils;
 
 /**
@@ -28,25 +29,19 @@ import com.labs64.netlicensing.util.DateUtils;
 public class ItemToTokenConverter extends ItemToEntityBaseConverter<Token> {
 
     @Override
-    public Token convert(final Item source) throws ConversionException {
-        final Token target = super.convert(source);
+    protected Token convert(final Item source, final PropertyIndex properties) throws ConversionException {
+        final Token target = super.convert(source, properties);
 
-        if (SchemaFunction.propertyByName(source.getProperty(), Constants.Token.EXPIRATION_TIME).getValue() != null) {
-            target.setExpirationTime(DateUtils.parseDate(SchemaFunction.propertyByName(
-                    source.getProperty(), Constants.Token.EXPIRATION_TIME).getValue()).getTime());
+        final String expirationTime = properties.getValue(Constants.Token.EXPIRATION_TIME);
+        if (expirationTime != null) {
+            target.setExpirationTime(Date.from(DateUtils.parseInstant(expirationTime)));
         }
 
-        target.setTokenType(TokenType.parseString(SchemaFunction.propertyByName(source.getProperty(),
-                Constants.Token.TOKEN_TYPE).getValue()));
-        target.setVendorNumber(SchemaFunction.propertyByName(source.getProperty(),
-                Constants.Token.TOKEN_PROP_VENDORNUMBER).getValue());
+        target.setTokenType(TokenType.parseString(properties.getValue(Constants.Token.TOKEN_TYPE)));
+        target.setVendorNumber(properties.getValue(Constants.Token.TOKEN_PROP_VENDORNUMBER));
 
         // Custom properties
-        for (final Property property : source.getProperty()) {
-            if (!TokenImpl.getReservedProps().contains(property.getName())) {
-                target.getProperties().put(property.getName(), property.getValue());
-            }
-        }
+        convertCustomProperties(source, TokenImpl.getReservedProps(), target);
 
         return target;
     }
@@ -13,6 +13,7 @@
 package com.labs64.netlicensing.schema.converter;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 
 import jakarta.xml.bind.DatatypeConverter;
@@ -27,9 +28,9 @@ import com.labs64.netlicensing.domain.vo.Currency;
 import com.labs64.netlicensing.domain.vo.TransactionSource;
 import com.labs64.netlicensing.domain.vo.TransactionStatus;
 import com.labs64.netlicensing.exception.ConversionException;
+import com.labs64.netlicensing.schema.PropertyIndex;
 import com.labs64.netlicensing.schema.SchemaFunction;
 import com.labs64.netlicensing.schema.context.Item;
-import com.labs64.netlicensing.schema.context.Property;
 import com.labs64.netlicensing.util.DateUtils;
 
 /**
@@ -38,42 +39,34 @@ import com.labs64.netlicensing.util.DateUtils;
 public class ItemToTransactionConverter extends ItemToEntityBaseConverter<Transaction> {
 
     @Override
-    public Transaction convert(final Item source) throws ConversionException {
-        final Transaction target = super.convert(source);
+    protected Transaction convert(final Item source, final PropertyIndex properties) throws ConversionException {
+        final Transaction target = super.convert(source, properties);
 
-        target.setStatus(TransactionStatus.valueOf(SchemaFunction.propertyByName(source.getProperty(),
-                Constants.Transaction.STATUS)
-                .getValue()));
-        target.setSource(TransactionSource.valueOf(SchemaFunction.propertyByName(source.getProperty(),
-                Constants.Transaction.SOURCE)
-                .getValue()));
-        if (SchemaFunction.propertyByName(source.getProperty(), Constants.Transaction.GRAND_TOTAL).getValue() != null) {
-            target.setGrandTotal(DatatypeConverter.parseDecimal(SchemaFunction.propertyByName(source.getProperty(),
-                    Constants.Transaction.GRAND_TOTAL).getValue()));
+        target.setStatus(TransactionStatus.valueOf(properties.getValue(Constants.Transaction.STATUS)));
+        target.setSource(TransactionSource.valueOf(properties.getValue(Constants.Transaction.SOURCE)));
+        final String grandTotal = properties.getValue(Constants.Transaction.GRAND_TOTAL);
+        if (grandTotal != null) {
+            target.setGrandTotal(DatatypeConverter.parseDecimal(grandTotal));
         }
-        if (SchemaFunction.propertyByName(source.getProperty(), Constants.DISCOUNT).getValue() != null) {
-            target.setDiscount(DatatypeConverter.parseDecimal(SchemaFunction.propertyByName(source.getProperty(),
-                    Constants.DISCOUNT).getValue()));
+        final String discount = properties.getValue(Constants.DISCOUNT);
+        if (discount != null) {
+            target.setDiscount(DatatypeConverter.parseDecimal(discount));
         }
-        if (SchemaFunction.propertyByName(source.getProperty(), Constants.CURRENCY).getValue() != null) {
-            target.setCurrency(Currency.valueOf(SchemaFunction.propertyByName(source.getProperty(),
-                    Constants.CURRENCY).getValue()));
+        final String currency = properties.getValue(Constants.CURRENCY);
+        if (currency != null) {
+            target.setCurrency(Currency.valueOf(currency));
         }
-        if (SchemaFunction.propertyByName(source.getProperty(), Constants.Transaction.DATE_CREATED).getValue() != null) {
-            target.setDateCreated(DateUtils.parseDate(SchemaFunction.propertyByName(
-                    source.getProperty(), Constants.Transaction.DATE_CREATED).getValue()).getTime());
+        final String dateCreated = properties.getValue(Constants.Transaction.DATE_CREATED);
+        if (dateCreated != null) {
+            target.setDateCreated(Date.from(DateUtils.parseInstant(dateCreated)));
         }
-        if (SchemaFunction.propertyByName(source.getProperty(), Constants.Transaction.DATE_CLOSED).getValue() != null) {
-            target.setDateClosed(DateUtils.parseDate(SchemaFunction.propertyByName(
-                    source.getProperty(), Constants.Transaction.DATE_CLOSED).getValue()).getTime());
+        final String dateClosed = properties.getValue(Constants.Transaction.DATE_CLOSED);
+        if (dateClosed != null) {
+            target.setDateClosed(Date.from(DateUtils.parseInstant(dateClosed)));
         }
 
         // Custom properties
-        for (final Property property : source.getProperty()) {
-            if (!TransactionImpl.getReservedProps().contains(property.getName())) {
-                target.getProperties().put(property.getName(), property.getValue());
-            }
-        }
+        convertCustomProperties(source, TransactionImpl.getReservedProps(), target);
 
         final List<LicenseTransactionJoin> licenseTransactionJoins = new ArrayList<>();
         for (final com.labs64.netlicensing.schema.context.List list : source.getList()) {
@@ -18,6 +18,8 @@ import com.labs64.netlicensing.util.DateUtils;
  */
 public class ItemsToValidationResultConverter implements Converter<Netlicensing, ValidationResult> {
 
+    private static final String LICENSEE_TYPE = Licensee.class.getSimpleName();
+
     @Override
     public ValidationResult convert(final Netlicensing source) throws ConversionException {
         final ValidationResult target = new ValidationResult();
@@ -26,7 +28,8 @@ public class ItemsToValidationResultConverter implements Converter<Netlicensing,
         }
 
         if (source.getTtl() != null) {
-            target.setTtl(DateUtils.parseDate(source.getTtl().toXMLFormat()));
+            // already parsed by the unmarshaller, no need for a round trip through the lexical form
+            target.setTtl(DateUtils.toCalendar(DateUtils.toInstant(source.getTtl())));
         }
 
         if (source.getItems() == null) {
@@ -34,7 +37,7 @@ public class ItemsToValidationResultConverter implements Converter<Netlicensing,
         }
 
         for (final Item item : source.getItems().getItem()) {
-            if (Licensee.class.getSimpleName().equals(item.getType())) {
+            if (LICENSEE_TYPE.equals(item.getType())) {
                 LicenseeImpl licensee = new LicenseeImpl();
 
                 for (final Property property : item.getProperty()) {
@@ -44,7 +47,8 @@ public class ItemsToValidationResultConverter implements Converter<Netlicensing,
                         continue;
                     }
 
-                    licensee.getProperties().put(property.getName(), property.getValue());
+                    licensee.getProperties().put(PropertyInterner.name(property.getName()),
+                            PropertyInterner.value(property.getValue()));
                 }
 
                 target.setLicensee(licensee);
@@ -63,14 +67,15 @@ public class ItemsToValidationResultConverter implements Converter<Netlicensing,
                 if (Constants.ProductModule.PRODUCT_MODULE_NUMBER.equals(property.getName())) {
                     productModuleNumber = property.getValue();
                 } else {
-                    composition.put(property.getName(), property.getValue());
+                    composition.put(PropertyInterner.name(property.getName()),
+                            PropertyInterner.value(property.getValue()));
                 }
             }
 
             // convert lists
             if (item.getList() != null) {
                 for (final List list : item.getList()) {
-                    composition.put(list.getName(), convertFromList(list));
+                    composition.put(PropertyInterner.name(list.getName()), convertFromList(list));
                 }
             }
 
@@ -94,13 +99,14 @@ public class ItemsToValidationResultConverter implements Converter<Netlicensing,
         // convert properties
         if (list.getProperty() != null) {
             for (final Property property : list.getProperty()) {
-                composition.put(property.getName(), property.getValue());
+                composition.put(PropertyInterner.name(property.getName()),
+                        PropertyInterner.value(property.getValue()));
             }
         }
         // convert lists
         if (list.getList() != null) {
             for (final List sublist : list.getList()) {
-                composition.put(list.getName(), convertFromList(sublist));
+                composition.put(PropertyInterner.name(list.getName()), convertFromList(sublist));
             }
         }
         return composition;
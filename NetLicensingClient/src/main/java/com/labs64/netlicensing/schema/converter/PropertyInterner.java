@@ -0,0 +1,93 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.labs64.netlicensing.schema.converter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.labs64.netlicensing.domain.vo.WarningLevel;
+
+/**
+ * Canonicalizes the property names and common property values of converted entities, so that entities kept in memory
+ * share one instance of e.g. <code>licenseeNumber</code> or <code>true</code> instead of each holding the copy created
+ * by the XML parser.
+ * <p>
+ * Names go to a bounded, direct-mapped table: a name whose slot is taken by a different name replaces it. Colliding
+ * names therefore may not be canonicalized, but the table never grows and needs no locking; a racy read only costs a
+ * missed canonicalization, as strings are immutable. Values are canonicalized only from a fixed, read-only set
+ * (booleans, warning levels and ISO currency codes), so that high-cardinality values such as prices or quantities
+ * neither evict names nor cause writes.
+ */
+final class PropertyInterner {
+
+    private static final int NAME_TABLE_SIZE = 2048;
+
+    private static final String[] NAMES = new String[NAME_TABLE_SIZE];
+
+    private static final Map<String, String> VALUES = new HashMap<>();
+
+    /** longest canonical value, longer values are returned without a lookup */
+    private static int maxValueLength;
+
+    static {
+        addValue(Boolean.TRUE.toString());
+        addValue(Boolean.FALSE.toString());
+        for (final WarningLevel warningLevel : WarningLevel.values()) {
+            addValue(warningLevel.name());
+        }
+        for (final java.util.Currency currency : java.util.Currency.getAvailableCurrencies()) {
+            addValue(currency.getCurrencyCode());
+        }
+    }
+
+    private PropertyInterner() {
+    }
+
+    /**
+     * @param name
+     *            property name, may be null
+     * @return canonical instance of the name
+     */
+    static String name(final String name) {
+        if (name == null) {
+            return null;
+        }
+        final int hash = name.hashCode();
+        final int index = (hash ^ (hash >>> 16)) & (NAME_TABLE_SIZE - 1);
+        final String canonical = NAMES[index];
+        if (name.equals(canonical)) {
+            return canonical;
+        }
+        NAMES[index] = name;
+        return name;
+    }
+
+    /**
+     * @param value
+     *            property value, may be null
+     * @return canonical instance of the value if it is a common one, the value itself otherwise
+     */
+    static String value(final String value) {
+        if ((value == null) || (value.length() > maxValueLength)) {
+            return value;
+        }
+        final String canonical = VALUES.get(value);
+        return (canonical != null) ? canonical : value;
+    }
+
+    private static void addValue(final String value) {
+        VALUES.put(value, value);
+        maxValueLength = Math.max(maxValueLength, value.length());
+    }
+
+}
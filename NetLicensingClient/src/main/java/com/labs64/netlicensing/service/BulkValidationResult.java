@@ -0,0 +1,127 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.labs64.netlicensing.service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import com.labs64.netlicensing.domain.vo.ValidationResult;
+import com.labs64.netlicensing.exception.NetLicensingException;
+
+/**
+ * Outcome of a bulk validation by {@link ValidationService#validateAll}: the result or error per licensee, plus
+ * throughput and latency of the run.
+ */
+public class BulkValidationResult {
+
+    private final Map<String, ValidationResult> results;
+
+    private final Map<String, NetLicensingException> errors;
+
+    private final long durationNanos;
+
+    /** latencies of the single validations, sorted ascending */
+    private final long[] latencies;
+
+    BulkValidationResult(final Map<String, ValidationResult> results, final Map<String, NetLicensingException> errors,
+            final long durationNanos, final long[] latencies) {
+        this.results = Collections.unmodifiableMap(results);
+        this.errors = Collections.unmodifiableMap(errors);
+        this.durationNanos = durationNanos;
+        this.latencies = latencies.clone();
+        Arrays.sort(this.latencies);
+    }
+
+    /**
+     * @return validation results of the successfully validated licensees, by licensee number, in request order
+     */
+    public Map<String, ValidationResult> getResults() {
+        return results;
+    }
+
+    /**
+     * @return errors of the failed validations, by licensee number, in request order
+     */
+    public Map<String, NetLicensingException> getErrors() {
+        return errors;
+    }
+
+    /**
+     * @return number of validations performed
+     */
+    public int getCount() {
+        return latencies.length;
+    }
+
+    /**
+     * @return wall-clock duration of the run
+     */
+    public Duration getDuration() {
+        return Duration.ofNanos(durationNanos);
+    }
+
+    /**
+     * @return validations per second over the run
+     */
+    public double getThroughput() {
+        return (durationNanos == 0) ? 0.0 : latencies.length / (durationNanos / 1e9);
+    }
+
+    /**
+     * @return mean latency of a single validation
+     */
+    public Duration getMeanLatency() {
+        if (latencies.length == 0) {
+            return Duration.ZERO;
+        }
+        long sum = 0;
+        for (final long latency : latencies) {
+            sum += latency;
+        }
+        return Duration.ofNanos(sum / latencies.length);
+    }
+
+    /**
+     * @param percentile
+     *            percentile between 0 and 100, e.g. 99 for the 99th percentile
+     * @return latency of a single validation at the given percentile (nearest rank)
+     */
+    public Duration getLatencyPercentile(final double percentile) {
+        if ((percentile < 0) || (percentile > 100)) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        if (latencies.length == 0) {
+            return Duration.ZERO;
+        }
+        final int rank = (int) Math.ceil((percentile / 100) * latencies.length);
+        return Duration.ofNanos(latencies[Math.max(rank, 1) - 1]);
+    }
+
+    /**
+     * @return highest latency of a single validation
+     */
+    public Duration getMaxLatency() {
+        return getLatencyPercentile(100);
+    }
+
+    @Override
+    public String toString() {
+        return "BulkValidationResult [count=" + getCount() + ", errors=" + errors.size() + ", duration="
+                + getDuration() + ", throughput=" + String.format("%.1f/s", getThroughput()) + ", mean="
+                + getMeanLatency() + ", p50=" + getLatencyPercentile(50) + ", p99=" + getLatencyPercentile(99)
+                + ", max=" + getMaxLatency() + "]";
+    }
+
+}
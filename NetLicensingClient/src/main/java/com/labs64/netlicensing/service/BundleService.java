@@ -12,8 +12,8 @@
  */
 package com.labs64.netlicensing.service;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import com.labs64.netlicensing.provider.HttpMethod;
 import com.labs64.netlicensing.provider.Form;
@@ -26,6 +26,7 @@ import com.labs64.netlicensing.domain.entity.Bundle;
 import com.labs64.netlicensing.domain.entity.License;
 import com.labs64.netlicensing.domain.vo.Context;
 import com.labs64.netlicensing.domain.vo.Page;
+import com.labs64.netlicensing.exception.MalformedArgumentsException;
 import com.labs64.netlicensing.exception.NetLicensingException;
 import com.labs64.netlicensing.schema.context.Netlicensing;
 import com.labs64.netlicensing.util.CheckUtils;
@@ -45,8 +46,19 @@ public class BundleService {
      *                               corresponding service response messages.
      */
     public static Bundle create(final Context context, final Bundle bundle) throws NetLicensingException {
-        CheckUtils.paramNotNull(bundle, "bundle");
-        return NetLicensingService.getInstance().post(context, Constants.Bundle.ENDPOINT_PATH, ConvertUtils.entityToForm(bundle), Bundle.class);
+        return NetLicensingService.getInstance().post(context, Constants.Bundle.ENDPOINT_PATH, form(bundle),
+                Bundle.class);
+    }
+
+    /**
+     * Asynchronous variant of {@link #create(Context, Bundle)}.
+     *
+     * @return future of the newly created bundle, completed exceptionally with
+     *         {@link NetLicensingException} in case of a service error
+     */
+    public static CompletableFuture<Bundle> createAsync(final Context context, final Bundle bundle) {
+        return NetLicensingService.async(() -> NetLicensingService.getInstance().postAsync(context,
+                Constants.Bundle.ENDPOINT_PATH, form(bundle), Bundle.class));
     }
 
     /**
@@ -59,8 +71,18 @@ public class BundleService {
      *                               corresponding service response messages.
      */
     public static Bundle get(final Context context, final String number) throws NetLicensingException {
-        CheckUtils.paramNotEmpty(number, "number");
-        return NetLicensingService.getInstance().get(context, Constants.Bundle.ENDPOINT_PATH + "/" + number, null, Bundle.class);
+        return NetLicensingService.getInstance().get(context, path(number), null, Bundle.class);
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(Context, String)}.
+     *
+     * @return future of the bundle, completed exceptionally with {@link NetLicensingException} in case of a
+     *         service error
+     */
+    public static CompletableFuture<Bundle> getAsync(final Context context, final String number) {
+        return NetLicensingService.async(() -> NetLicensingService.getInstance().getAsync(context, path(number), null,
+                Bundle.class));
     }
 
     /**
@@ -73,11 +95,40 @@ public class BundleService {
      *                               corresponding service response messages.
      */
     public static Page<Bundle> list(final Context context, final String filter) throws NetLicensingException {
-        final Map<String, String> params = new HashMap<>();
-        if (StringUtils.isNotBlank(filter)) {
-            params.put(Constants.FILTER, filter);
-        }
-        return NetLicensingService.getInstance().list(context, Constants.Bundle.ENDPOINT_PATH, params, Bundle.class);
+        return NetLicensingService.getInstance().list(context, Constants.Bundle.ENDPOINT_PATH,
+                NetLicensingService.filterParams(filter), Bundle.class);
+    }
+
+    /**
+     * Asynchronous variant of {@link #list(Context, String)}.
+     *
+     * @return future of the bundle page, completed exceptionally with {@link NetLicensingException} in case
+     *         of a service error
+     */
+    public static CompletableFuture<Page<Bundle>> listAsync(final Context context, final String filter) {
+        return NetLicensingService.getInstance().listAsync(context, Constants.Bundle.ENDPOINT_PATH,
+                NetLicensingService.filterParams(filter), Bundle.class);
+    }
+
+    /**
+     * Streaming variant of {@link #list(Context, String)}: passes the bundles to the consumer one by one while the
+     * response is being read, without holding the whole page in memory. Linked entities are not resolved.
+     *
+     * @param context
+     *            determines the vendor on whose behalf the call is performed
+     * @param filter
+     *            reserved for the future use, must be omitted / set to NULL
+     * @param consumer
+     *            receives the bundles of the page
+     * @return page information; the page content is empty
+     * @throws com.labs64.netlicensing.exception.NetLicensingException
+     *             any subclass of {@linkplain com.labs64.netlicensing.exception.NetLicensingException}. These exceptions will be transformed to the
+     *             corresponding service response messages.
+     */
+    public static Page<Bundle> list(final Context context, final String filter, final Consumer<Bundle> consumer)
+            throws NetLicensingException {
+        return NetLicensingService.getInstance().list(context, Constants.Bundle.ENDPOINT_PATH,
+                NetLicensingService.filterParams(filter), Bundle.class, consumer);
     }
 
     /**
@@ -92,11 +143,19 @@ public class BundleService {
      */
     public static Bundle update(final Context context, final String number, final Bundle bundle)
             throws NetLicensingException {
-        CheckUtils.paramNotEmpty(number, "number");
-        CheckUtils.paramNotNull(bundle, "bundle");
+        return NetLicensingService.getInstance().post(context, path(number), form(bundle), Bundle.class);
+    }
 
-        return NetLicensingService.getInstance().post(context, Constants.Bundle.ENDPOINT_PATH + "/" + number, ConvertUtils.entityToForm(bundle),
-                Bundle.class);
+    /**
+     * Asynchronous variant of {@link #update(Context, String, Bundle)}.
+     *
+     * @return future of the updated bundle, completed exceptionally with {@link NetLicensingException} in
+     *         case of a service error
+     */
+    public static CompletableFuture<Bundle> updateAsync(final Context context, final String number,
+            final Bundle bundle) {
+        return NetLicensingService.async(() -> NetLicensingService.getInstance().postAsync(context, path(number),
+                form(bundle), Bundle.class));
     }
 
     /**
@@ -109,9 +168,18 @@ public class BundleService {
      */
     public static void delete(final Context context, final String number)
             throws NetLicensingException {
-        CheckUtils.paramNotEmpty(number, "number");
+        NetLicensingService.getInstance().delete(context, path(number), null);
+    }
 
-        NetLicensingService.getInstance().delete(context, Constants.Bundle.ENDPOINT_PATH + "/" + number, null);
+    /**
+     * Asynchronous variant of {@link #delete(Context, String)}.
+     *
+     * @return future completed when the bundle is deleted, or exceptionally with
+     *         {@link NetLicensingException} in case of a service error
+     */
+    public static CompletableFuture<Void> deleteAsync(final Context context, final String number) {
+        return NetLicensingService.async(() -> NetLicensingService.getInstance().deleteAsync(context, path(number),
+                null));
     }
 
     /**
@@ -128,24 +196,27 @@ public class BundleService {
     public static Page<License> obtain(final Context context, final String number, final String licenseeNumber,
             final String transactionNumber)
             throws NetLicensingException {
-        CheckUtils.paramNotEmpty(number, "number");
-        CheckUtils.paramNotEmpty(licenseeNumber, "licenseeNumber");
-
-        final String endpoint = Constants.Bundle.ENDPOINT_PATH + "/" + number + "/" + Constants.Bundle.ENDPOINT_OBTAIN_PATH;
-
-        final Form form = new Form();
-        form.param(Constants.Licensee.LICENSEE_NUMBER, licenseeNumber);
-
-        if (StringUtils.isNotBlank(transactionNumber)) {
-            form.param(Constants.Transaction.TRANSACTION_NUMBER, transactionNumber);
-        }
-
-        final Netlicensing response = NetLicensingService.getInstance()
-                .request(context, HttpMethod.POST, endpoint, form, null);
+        final Netlicensing response = NetLicensingService.getInstance().request(context, HttpMethod.POST,
+                obtainPath(number), obtainForm(licenseeNumber, transactionNumber), null);
 
         return entityFactory.createPage(response, License.class);
     }
 
+    /**
+     * Asynchronous variant of {@link #obtain(Context, String, String, String)}.
+     *
+     * @return future of the created licenses, completed exceptionally with {@link NetLicensingException} in case of a
+     *         service error
+     */
+    public static CompletableFuture<Page<License>> obtainAsync(final Context context, final String number,
+            final String licenseeNumber, final String transactionNumber) {
+        return NetLicensingService.async(() -> NetLicensingService.getInstance()
+                .requestAsync(context, HttpMethod.POST, obtainPath(number),
+                        obtainForm(licenseeNumber, transactionNumber), null)
+                .thenApply(NetLicensingService.unchecked(
+                        response -> entityFactory.createPage(response, License.class))));
+    }
+
     /**
      * Obtain bundle(create licenses from a bundle license templates).
      *
@@ -160,4 +231,42 @@ public class BundleService {
             throws NetLicensingException {
         return obtain(context, number,licenseeNumber, null);
     }
+
+    /**
+     * Asynchronous variant of {@link #obtain(Context, String, String)}.
+     *
+     * @return future of the created licenses, completed exceptionally with {@link NetLicensingException} in case of a
+     *         service error
+     */
+    public static CompletableFuture<Page<License>> obtainAsync(final Context context, final String number,
+            final String licenseeNumber) {
+        return obtainAsync(context, number, licenseeNumber, null);
+    }
+
+    // *** request building, shared by the synchronous and asynchronous variants ***
+
+    private static String path(final String number) throws MalformedArgumentsException {
+        CheckUtils.paramNotEmpty(number, "number");
+        return Constants.Bundle.ENDPOINT_PATH + "/" + number;
+    }
+
+    private static Form form(final Bundle bundle) throws MalformedArgumentsException {
+        CheckUtils.paramNotNull(bundle, "bundle");
+        return ConvertUtils.entityToForm(bundle);
+    }
+
+    private static String obtainPath(final String number) throws MalformedArgumentsException {
+        return path(number) + "/" + Constants.Bundle.ENDPOINT_OBTAIN_PATH;
+    }
+
+    private static Form obtainForm(final String licenseeNumber, final String transactionNumber)
+            throws MalformedArgumentsException {
+        CheckUtils.paramNotEmpty(licenseeNumber, "licenseeNumber");
+        final Form form = new Form();
+        form.param(Constants.Licensee.LICENSEE_NUMBER, licenseeNumber);
+        if (StringUtils.isNotBlank(transactionNumber)) {
+            form.param(Constants.Transaction.TRANSACTION_NUMBER, transactionNumber);
+        }
+        return form;
+    }
 }
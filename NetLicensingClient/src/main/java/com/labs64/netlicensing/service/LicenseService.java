@@ -12,8 +12,9 @@
  */
 package com.labs64.netlicensing.service;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
 
 import com.labs64.netlicensing.provider.Form;
 
@@ -23,9 +24,11 @@ import com.labs64.netlicensing.domain.Constants;
 import com.labs64.netlicensing.domain.entity.License;
 import com.labs64.netlicensing.domain.vo.Context;
 import com.labs64.netlicensing.domain.vo.Page;
+import com.labs64.netlicensing.exception.MalformedArgumentsException;
 import com.labs64.netlicensing.exception.NetLicensingException;
 import com.labs64.netlicensing.util.CheckUtils;
 import com.labs64.netlicensing.util.ConvertUtils;
+import com.labs64.netlicensing.util.PagePublisher;
 
 /**
  * Provides license handling routines.
@@ -68,20 +71,21 @@ public class LicenseService {
     public static License create(final Context context, final String licenseeNumber,
             final String licenseTemplateNumber,
             final String transactionNumber, final License license) throws NetLicensingException {
+        return NetLicensingService.getInstance().post(context, Constants.License.ENDPOINT_PATH,
+                createForm(licenseeNumber, licenseTemplateNumber, transactionNumber, license), License.class);
+    }
 
-        CheckUtils.paramNotNull(license, "license");
-
-        final Form form = ConvertUtils.entityToForm(license);
-        if (StringUtils.isNotBlank(licenseeNumber)) {
-            form.param(Constants.Licensee.LICENSEE_NUMBER, licenseeNumber);
-        }
-        if (StringUtils.isNotBlank(licenseTemplateNumber)) {
-            form.param(Constants.LicenseTemplate.LICENSE_TEMPLATE_NUMBER, licenseTemplateNumber);
-        }
-        if (StringUtils.isNotBlank(transactionNumber)) {
-            form.param(Constants.Transaction.TRANSACTION_NUMBER, transactionNumber);
-        }
-        return NetLicensingService.getInstance().post(context, Constants.License.ENDPOINT_PATH, form, License.class);
+    /**
+     * Asynchronous variant of {@link #create(Context, String, String, String, License)}.
+     *
+     * @return future of the newly created license, completed exceptionally with {@link NetLicensingException} in
+     *         case of a service error
+     */
+    public static CompletableFuture<License> createAsync(final Context context, final String licenseeNumber,
+            final String licenseTemplateNumber, final String transactionNumber, final License license) {
+        return NetLicensingService.async(() -> NetLicensingService.getInstance().postAsync(context,
+                Constants.License.ENDPOINT_PATH,
+                createForm(licenseeNumber, licenseTemplateNumber, transactionNumber, license), License.class));
     }
 
     /**
@@ -100,6 +104,17 @@ public class LicenseService {
         return NetLicensingService.getInstance().get(context, Constants.License.ENDPOINT_PATH + "/" + number, null, License.class);
     }
 
+    /**
+     * Asynchronous variant of {@link #get(Context, String)}.
+     *
+     * @return future of the license, completed exceptionally with {@link NetLicensingException} in case of a service
+     *         error
+     */
+    public static CompletableFuture<License> getAsync(final Context context, final String number) {
+        return NetLicensingService.getInstance().getAsync(context, Constants.License.ENDPOINT_PATH + "/" + number, null,
+                License.class);
+    }
+
     /**
      * Returns licenses of a vendor.
      * 
@@ -113,11 +128,54 @@ public class LicenseService {
      *             corresponding service response messages.
      */
     public static Page<License> list(final Context context, final String filter) throws NetLicensingException {
-        final Map<String, String> params = new HashMap<>();
-        if (StringUtils.isNotBlank(filter)) {
-            params.put(Constants.FILTER, filter);
-        }
-        return NetLicensingService.getInstance().list(context, Constants.License.ENDPOINT_PATH, params, License.class);
+        return NetLicensingService.getInstance().list(context, Constants.License.ENDPOINT_PATH,
+                NetLicensingService.filterParams(filter), License.class);
+    }
+
+    /**
+     * Asynchronous variant of {@link #list(Context, String)}.
+     *
+     * @return future of the license page, completed exceptionally with {@link NetLicensingException} in case
+     *         of a service error
+     */
+    public static CompletableFuture<Page<License>> listAsync(final Context context, final String filter) {
+        return NetLicensingService.getInstance().listAsync(context, Constants.License.ENDPOINT_PATH,
+                NetLicensingService.filterParams(filter), License.class);
+    }
+
+    /**
+     * Streaming variant of {@link #list(Context, String)}: passes the licenses to the consumer one by one while the
+     * response is being read, without holding the whole page in memory. Linked entities are not resolved.
+     *
+     * @param context
+     *            determines the vendor on whose behalf the call is performed
+     * @param filter
+     *            reserved for the future use, must be omitted / set to NULL
+     * @param consumer
+     *            receives the licenses of the page
+     * @return page information; the page content is empty
+     * @throws com.labs64.netlicensing.exception.NetLicensingException
+     *             any subclass of {@linkplain com.labs64.netlicensing.exception.NetLicensingException}. These exceptions will be transformed to the
+     *             corresponding service response messages.
+     */
+    public static Page<License> list(final Context context, final String filter, final Consumer<License> consumer)
+            throws NetLicensingException {
+        return NetLicensingService.getInstance().list(context, Constants.License.ENDPOINT_PATH,
+                NetLicensingService.filterParams(filter), License.class, consumer);
+    }
+
+    /**
+     * Reactive variant of {@link #list(Context, String)} over all pages: publishes the licenses of all pages,
+     * retrieving the pages as requested by the subscriber.
+     *
+     * @param context
+     *            determines the vendor on whose behalf the call is performed
+     * @param filter
+     *            reserved for the future use, must be omitted / set to NULL
+     * @return publisher of the licenses
+     */
+    public static Flow.Publisher<License> listPublisher(final Context context, final String filter) {
+        return new PagePublisher<>(filter, pageFilter -> listAsync(context, pageFilter));
     }
 
     /**
@@ -139,14 +197,20 @@ public class LicenseService {
      */
     public static License update(final Context context, final String number, final String transactionNumber,
             final License license) throws NetLicensingException {
-        CheckUtils.paramNotEmpty(number, "number");
-        CheckUtils.paramNotNull(license, "license");
+        return NetLicensingService.getInstance().post(context, path(number), updateForm(transactionNumber, license),
+                License.class);
+    }
 
-        final Form form = ConvertUtils.entityToForm(license);
-        if (StringUtils.isNotBlank(transactionNumber)) {
-            form.param(Constants.Transaction.TRANSACTION_NUMBER, transactionNumber);
-        }
-        return NetLicensingService.getInstance().post(context, Constants.License.ENDPOINT_PATH + "/" + number, form, License.class);
+    /**
+     * Asynchronous variant of {@link #update(Context, String, String, License)}.
+     *
+     * @return future of the updated license, completed exceptionally with {@link NetLicensingException} in case of a
+     *         service error
+     */
+    public static CompletableFuture<License> updateAsync(final Context context, final String number,
+            final String transactionNumber, final License license) {
+        return NetLicensingService.async(() -> NetLicensingService.getInstance().postAsync(context, path(number),
+                updateForm(transactionNumber, license), License.class));
     }
 
     /**
@@ -166,9 +230,53 @@ public class LicenseService {
      */
     public static void delete(final Context context, final String number, final boolean forceCascade)
             throws NetLicensingException {
+        NetLicensingService.getInstance().delete(context, path(number),
+                NetLicensingService.cascadeParams(forceCascade));
+    }
+
+    /**
+     * Asynchronous variant of {@link #delete(Context, String, boolean)}.
+     *
+     * @return future completed when the license is deleted, or exceptionally with
+     *         {@link NetLicensingException} in case of a service error
+     */
+    public static CompletableFuture<Void> deleteAsync(final Context context, final String number,
+            final boolean forceCascade) {
+        return NetLicensingService.async(() -> NetLicensingService.getInstance().deleteAsync(context, path(number),
+                NetLicensingService.cascadeParams(forceCascade)));
+    }
+
+    // *** request building, shared by the synchronous and asynchronous variants ***
+
+    private static String path(final String number) throws MalformedArgumentsException {
         CheckUtils.paramNotEmpty(number, "number");
-        Map<String, String> params = Map.of(Constants.CASCADE, String.valueOf(forceCascade));
-        NetLicensingService.getInstance().delete(context, Constants.License.ENDPOINT_PATH + "/" + number, params);
+        return Constants.License.ENDPOINT_PATH + "/" + number;
+    }
+
+    private static Form createForm(final String licenseeNumber, final String licenseTemplateNumber,
+            final String transactionNumber, final License license) throws MalformedArgumentsException {
+        CheckUtils.paramNotNull(license, "license");
+        final Form form = ConvertUtils.entityToForm(license);
+        if (StringUtils.isNotBlank(licenseeNumber)) {
+            form.param(Constants.Licensee.LICENSEE_NUMBER, licenseeNumber);
+        }
+        if (StringUtils.isNotBlank(licenseTemplateNumber)) {
+            form.param(Constants.LicenseTemplate.LICENSE_TEMPLATE_NUMBER, licenseTemplateNumber);
+        }
+        if (StringUtils.isNotBlank(transactionNumber)) {
+            form.param(Constants.Transaction.TRANSACTION_NUMBER, transactionNumber);
+        }
+        return form;
+    }
+
+    private static Form updateForm(final String transactionNumber, final License license)
+            throws MalformedArgumentsException {
+        CheckUtils.paramNotNull(license, "license");
+        final Form form = ConvertUtils.entityToForm(license);
+        if (StringUtils.isNotBlank(transactionNumber)) {
+            form.param(Constants.Transaction.TRANSACTION_NUMBER, transactionNumber);
+        }
+        return form;
     }
 
 }
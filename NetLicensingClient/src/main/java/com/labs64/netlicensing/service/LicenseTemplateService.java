@@ -12,8 +12,8 @@
  */
 package com.labs64.netlicensing.service;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import com.labs64.netlicensing.provider.Form;
 
@@ -23,6 +23,7 @@ import com.labs64.netlicensing.domain.Constants;
 import com.labs64.netlicensing.domain.entity.LicenseTemplate;
 import com.labs64.netlicensing.domain.vo.Context;
 import com.labs64.netlicensing.domain.vo.Page;
+import com.labs64.netlicensing.exception.MalformedArgumentsException;
 import com.labs64.netlicensing.exception.NetLicensingException;
 import com.labs64.netlicensing.util.CheckUtils;
 import com.labs64.netlicensing.util.ConvertUtils;
@@ -55,13 +56,22 @@ public class LicenseTemplateService {
      */
     public static LicenseTemplate create(final Context context, final String productModuleNumber,
             final LicenseTemplate licenseTemplate) throws NetLicensingException {
-        CheckUtils.paramNotNull(licenseTemplate, "licenseTemplate");
+        return NetLicensingService.getInstance().post(context, Constants.LicenseTemplate.ENDPOINT_PATH,
+                createForm(productModuleNumber, licenseTemplate), LicenseTemplate.class);
+    }
 
-        final Form form = ConvertUtils.entityToForm(licenseTemplate);
-        if (StringUtils.isNotBlank(productModuleNumber)) {
-            form.param(Constants.ProductModule.PRODUCT_MODULE_NUMBER, productModuleNumber);
-        }
-        return NetLicensingService.getInstance().post(context, Constants.LicenseTemplate.ENDPOINT_PATH, form, LicenseTemplate.class);
+    /**
+     * Asynchronous variant of {@link #create(Context, String, LicenseTemplate)}.
+     *
+     * @return future of the newly created license template, completed exceptionally with
+     *         {@link NetLicensingException} in case of a service error
+     */
+    public static CompletableFuture<LicenseTemplate> createAsync(final Context context,
+            final String productModuleNumber,
+            final LicenseTemplate licenseTemplate) {
+        return NetLicensingService.async(() -> NetLicensingService.getInstance().postAsync(context,
+                Constants.LicenseTemplate.ENDPOINT_PATH, createForm(productModuleNumber, licenseTemplate),
+                LicenseTemplate.class));
     }
 
     /**
@@ -77,9 +87,18 @@ public class LicenseTemplateService {
      *             corresponding service response messages.
      */
     public static LicenseTemplate get(final Context context, final String number) throws NetLicensingException {
-        CheckUtils.paramNotEmpty(number, "number");
+        return NetLicensingService.getInstance().get(context, path(number), null, LicenseTemplate.class);
+    }
 
-        return NetLicensingService.getInstance().get(context, Constants.LicenseTemplate.ENDPOINT_PATH + "/" + number, null, LicenseTemplate.class);
+    /**
+     * Asynchronous variant of {@link #get(Context, String)}.
+     *
+     * @return future of the license template, completed exceptionally with {@link NetLicensingException} in case of a
+     *         service error
+     */
+    public static CompletableFuture<LicenseTemplate> getAsync(final Context context, final String number) {
+        return NetLicensingService.async(() -> NetLicensingService.getInstance().getAsync(context, path(number), null,
+                LicenseTemplate.class));
     }
 
     /**
@@ -95,11 +114,40 @@ public class LicenseTemplateService {
      *             corresponding service response messages.
      */
     public static Page<LicenseTemplate> list(final Context context, final String filter) throws NetLicensingException {
-        final Map<String, String> params = new HashMap<>();
-        if (StringUtils.isNotBlank(filter)) {
-            params.put(Constants.FILTER, filter);
-        }
-        return NetLicensingService.getInstance().list(context, Constants.LicenseTemplate.ENDPOINT_PATH, params, LicenseTemplate.class);
+        return NetLicensingService.getInstance().list(context, Constants.LicenseTemplate.ENDPOINT_PATH,
+                NetLicensingService.filterParams(filter), LicenseTemplate.class);
+    }
+
+    /**
+     * Asynchronous variant of {@link #list(Context, String)}.
+     *
+     * @return future of the license template page, completed exceptionally with {@link NetLicensingException} in case
+     *         of a service error
+     */
+    public static CompletableFuture<Page<LicenseTemplate>> listAsync(final Context context, final String filter) {
+        return NetLicensingService.getInstance().listAsync(context, Constants.LicenseTemplate.ENDPOINT_PATH,
+                NetLicensingService.filterParams(filter), LicenseTemplate.class);
+    }
+
+    /**
+     * Streaming variant of {@link #list(Context, String)}: passes the license templates to the consumer one by one
+     * while the response is being read, without holding the whole page in memory. Linked entities are not resolved.
+     *
+     * @param context
+     *            determines the vendor on whose behalf the call is performed
+     * @param filter
+     *            reserved for the future use, must be omitted / set to NULL
+     * @param consumer
+     *            receives the license templates of the page
+     * @return page information; the page content is empty
+     * @throws com.labs64.netlicensing.exception.NetLicensingException
+     *             any subclass of {@linkplain com.labs64.netlicensing.exception.NetLicensingException}. These exceptions will be transformed to the
+     *             corresponding service response messages.
+     */
+    public static Page<LicenseTemplate> list(final Context context, final String filter,
+            final Consumer<LicenseTemplate> consumer) throws NetLicensingException {
+        return NetLicensingService.getInstance().list(context, Constants.LicenseTemplate.ENDPOINT_PATH,
+                NetLicensingService.filterParams(filter), LicenseTemplate.class, consumer);
     }
 
     /**
@@ -118,11 +166,20 @@ public class LicenseTemplateService {
      */
     public static LicenseTemplate update(final Context context, final String number,
             final LicenseTemplate licenseTemplate) throws NetLicensingException {
-        CheckUtils.paramNotEmpty(number, "number");
-        CheckUtils.paramNotNull(licenseTemplate, "licenseTemplate");
+        return NetLicensingService.getInstance().post(context, path(number), form(licenseTemplate),
+                LicenseTemplate.class);
+    }
 
-        return NetLicensingService.getInstance().post(context, Constants.LicenseTemplate.ENDPOINT_PATH + "/" + number,
-                ConvertUtils.entityToForm(licenseTemplate), LicenseTemplate.class);
+    /**
+     * Asynchronous variant of {@link #update(Context, String, LicenseTemplate)}.
+     *
+     * @return future of the updated license template, completed exceptionally with {@link NetLicensingException} in
+     *         case of a service error
+     */
+    public static CompletableFuture<LicenseTemplate> updateAsync(final Context context, final String number,
+            final LicenseTemplate licenseTemplate) {
+        return NetLicensingService.async(() -> NetLicensingService.getInstance().postAsync(context, path(number),
+                form(licenseTemplate), LicenseTemplate.class));
     }
 
     /**
@@ -140,10 +197,41 @@ public class LicenseTemplateService {
      */
     public static void delete(final Context context, final String number, final boolean forceCascade)
             throws NetLicensingException {
+        NetLicensingService.getInstance().delete(context, path(number),
+                NetLicensingService.cascadeParams(forceCascade));
+    }
+
+    /**
+     * Asynchronous variant of {@link #delete(Context, String, boolean)}.
+     *
+     * @return future completed when the license template is deleted, or exceptionally with
+     *         {@link NetLicensingException} in case of a service error
+     */
+    public static CompletableFuture<Void> deleteAsync(final Context context, final String number,
+            final boolean forceCascade) {
+        return NetLicensingService.async(() -> NetLicensingService.getInstance().deleteAsync(context, path(number),
+                NetLicensingService.cascadeParams(forceCascade)));
+    }
+
+    // *** request building, shared by the synchronous and asynchronous variants ***
+
+    private static String path(final String number) throws MalformedArgumentsException {
         CheckUtils.paramNotEmpty(number, "number");
+        return Constants.LicenseTemplate.ENDPOINT_PATH + "/" + number;
+    }
 
-        Map<String, String> params = Map.of(Constants.CASCADE, String.valueOf(forceCascade));
-        NetLicensingService.getInstance().delete(context, Constants.LicenseTemplate.ENDPOINT_PATH + "/" + number, params);
+    private static Form form(final LicenseTemplate licenseTemplate) throws MalformedArgumentsException {
+        CheckUtils.paramNotNull(licenseTemplate, "licenseTemplate");
+        return ConvertUtils.entityToForm(licenseTemplate);
+    }
+
+    private static Form createForm(final String productModuleNumber, final LicenseTemplate licenseTemplate)
+            throws MalformedArgumentsException {
+        final Form form = form(licenseTemplate);
+        if (StringUtils.isNotBlank(productModuleNumber)) {
+            form.param(Constants.ProductModule.PRODUCT_MODULE_NUMBER, productModuleNumber);
+        }
+        return form;
     }
 
 }
@@ -12,8 +12,10 @@
  */
 package com.labs64.netlicensing.service;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
 
 import com.labs64.netlicensing.provider.Form;
 
@@ -26,9 +28,11 @@ import com.labs64.netlicensing.domain.vo.MetaInfo;
 import com.labs64.netlicensing.domain.vo.Page;
 import com.labs64.netlicensing.domain.vo.ValidationParameters;
 import com.labs64.netlicensing.domain.vo.ValidationResult;
+import com.labs64.netlicensing.exception.MalformedArgumentsException;
 import com.labs64.netlicensing.exception.NetLicensingException;
 import com.labs64.netlicensing.util.CheckUtils;
 import com.labs64.netlicensing.util.ConvertUtils;
+import com.labs64.netlicensing.util.PagePublisher;
 
 /**
  * Provides licensee handling routines.
@@ -61,13 +65,20 @@ public class LicenseeService {
      */
     public static Licensee create(final Context context, final String productNumber, final Licensee licensee)
             throws NetLicensingException {
-        CheckUtils.paramNotNull(licensee, "licensee");
+        return NetLicensingService.getInstance().post(context, Constants.Licensee.ENDPOINT_PATH,
+                createForm(productNumber, licensee), Licensee.class);
+    }
 
-        final Form form = ConvertUtils.entityToForm(licensee);
-        if (StringUtils.isNotBlank(productNumber)) {
-            form.param(Constants.Product.PRODUCT_NUMBER, productNumber);
-        }
-        return NetLicensingService.getInstance().post(context, Constants.Licensee.ENDPOINT_PATH, form, Licensee.class);
+    /**
+     * Asynchronous variant of {@link #create(Context, String, Licensee)}.
+     *
+     * @return future of the newly created licensee, completed exceptionally with
+     *         {@link NetLicensingException} in case of a service error
+     */
+    public static CompletableFuture<Licensee> createAsync(final Context context, final String productNumber,
+            final Licensee licensee) {
+        return NetLicensingService.async(() -> NetLicensingService.getInstance().postAsync(context,
+                Constants.Licensee.ENDPOINT_PATH, createForm(productNumber, licensee), Licensee.class));
     }
 
     /**
@@ -82,9 +93,18 @@ public class LicenseeService {
      *             in case of a service error. Check subclass and message for details.
      */
     public static Licensee get(final Context context, final String number) throws NetLicensingException {
-        CheckUtils.paramNotEmpty(number, "number");
+        return NetLicensingService.getInstance().get(context, path(number), null, Licensee.class);
+    }
 
-        return NetLicensingService.getInstance().get(context, Constants.Licensee.ENDPOINT_PATH + "/" + number, null, Licensee.class);
+    /**
+     * Asynchronous variant of {@link #get(Context, String)}.
+     *
+     * @return future of the licensee, completed exceptionally with {@link NetLicensingException} in case of a
+     *         service error
+     */
+    public static CompletableFuture<Licensee> getAsync(final Context context, final String number) {
+        return NetLicensingService.async(() -> NetLicensingService.getInstance().getAsync(context, path(number), null,
+                Licensee.class));
     }
 
     /**
@@ -99,11 +119,54 @@ public class LicenseeService {
      *             in case of a service error. Check subclass and message for details.
      */
     public static Page<Licensee> list(final Context context, final String filter) throws NetLicensingException {
-        final Map<String, String> params = new HashMap<>();
-        if (StringUtils.isNotBlank(filter)) {
-            params.put(Constants.FILTER, filter);
-        }
-        return NetLicensingService.getInstance().list(context, Constants.Licensee.ENDPOINT_PATH, params, Licensee.class);
+        return NetLicensingService.getInstance().list(context, Constants.Licensee.ENDPOINT_PATH,
+                NetLicensingService.filterParams(filter), Licensee.class);
+    }
+
+    /**
+     * Asynchronous variant of {@link #list(Context, String)}.
+     *
+     * @return future of the licensee page, completed exceptionally with {@link NetLicensingException} in case
+     *         of a service error
+     */
+    public static CompletableFuture<Page<Licensee>> listAsync(final Context context, final String filter) {
+        return NetLicensingService.getInstance().listAsync(context, Constants.Licensee.ENDPOINT_PATH,
+                NetLicensingService.filterParams(filter), Licensee.class);
+    }
+
+    /**
+     * Streaming variant of {@link #list(Context, String)}: passes the licensees to the consumer one by one while the
+     * response is being read, without holding the whole page in memory. Linked entities are not resolved.
+     *
+     * @param context
+     *            determines the vendor on whose behalf the call is performed
+     * @param filter
+     *            reserved for the future use, must be omitted / set to NULL
+     * @param consumer
+     *            receives the licensees of the page
+     * @return page information; the page content is empty
+     * @throws com.labs64.netlicensing.exception.NetLicensingException
+     *             any subclass of {@linkplain com.labs64.netlicensing.exception.NetLicensingException}. These exceptions will be transformed to the
+     *             corresponding service response messages.
+     */
+    public static Page<Licensee> list(final Context context, final String filter, final Consumer<Licensee> consumer)
+            throws NetLicensingException {
+        return NetLicensingService.getInstance().list(context, Constants.Licensee.ENDPOINT_PATH,
+                NetLicensingService.filterParams(filter), Licensee.class, consumer);
+    }
+
+    /**
+     * Reactive variant of {@link #list(Context, String)} over all pages: publishes the licensees of all pages,
+     * retrieving the pages as requested by the subscriber.
+     *
+     * @param context
+     *            determines the vendor on whose behalf the call is performed
+     * @param filter
+     *            reserved for the future use, must be omitted / set to NULL
+     * @return publisher of the licensees
+     */
+    public static Flow.Publisher<Licensee> listPublisher(final Context context, final String filter) {
+        return new PagePublisher<>(filter, pageFilter -> listAsync(context, pageFilter));
     }
 
     /**
@@ -121,11 +184,19 @@ public class LicenseeService {
      */
     public static Licensee update(final Context context, final String number, final Licensee licensee)
             throws NetLicensingException {
-        CheckUtils.paramNotEmpty(number, "number");
-        CheckUtils.paramNotNull(licensee, "licensee");
+        return NetLicensingService.getInstance().post(context, path(number), form(licensee), Licensee.class);
+    }
 
-        return NetLicensingService.getInstance().post(context, Constants.Licensee.ENDPOINT_PATH + "/" + number, ConvertUtils.entityToForm(licensee),
-                Licensee.class);
+    /**
+     * Asynchronous variant of {@link #update(Context, String, Licensee)}.
+     *
+     * @return future of the updated licensee, completed exceptionally with {@link NetLicensingException} in
+     *         case of a service error
+     */
+    public static CompletableFuture<Licensee> updateAsync(final Context context, final String number,
+            final Licensee licensee) {
+        return NetLicensingService.async(() -> NetLicensingService.getInstance().postAsync(context, path(number),
+                form(licensee), Licensee.class));
     }
 
     /**
@@ -142,10 +213,20 @@ public class LicenseeService {
      */
     public static void delete(final Context context, final String number, final boolean forceCascade)
             throws NetLicensingException {
-        CheckUtils.paramNotEmpty(number, "number");
+        NetLicensingService.getInstance().delete(context, path(number),
+                NetLicensingService.cascadeParams(forceCascade));
+    }
 
-        Map<String, String> params = Map.of(Constants.CASCADE, String.valueOf(forceCascade));
-        NetLicensingService.getInstance().delete(context, Constants.Licensee.ENDPOINT_PATH + "/" + number, params);
+    /**
+     * Asynchronous variant of {@link #delete(Context, String, boolean)}.
+     *
+     * @return future completed when the licensee is deleted, or exceptionally with
+     *         {@link NetLicensingException} in case of a service error
+     */
+    public static CompletableFuture<Void> deleteAsync(final Context context, final String number,
+            final boolean forceCascade) {
+        return NetLicensingService.async(() -> NetLicensingService.getInstance().deleteAsync(context, path(number),
+                NetLicensingService.cascadeParams(forceCascade)));
     }
 
     /**
@@ -200,6 +281,27 @@ public class LicenseeService {
         return ValidationService.validate(context, number, validationParameters, meta);
     }
 
+    /**
+     * Asynchronous variant of {@link #validate(Context, String, ValidationParameters, MetaInfo...)}.
+     *
+     * @return future of the validation result, completed exceptionally with {@link NetLicensingException} in case
+     *         of a service error
+     */
+    public static CompletableFuture<ValidationResult> validateAsync(final Context context, final String number,
+            final ValidationParameters validationParameters, final MetaInfo... meta) {
+        return ValidationService.validateAsync(context, number, validationParameters, meta);
+    }
+
+    /**
+     * Validates the licensees in parallel, with at most <code>parallelism</code> validations in flight at a time.
+     *
+     * @see ValidationService#validateAll(Context, Collection, ValidationParameters, int)
+     */
+    public static BulkValidationResult validateAll(final Context context, final Collection<String> numbers,
+            final ValidationParameters validationParameters, final int parallelism) throws NetLicensingException {
+        return ValidationService.validateAll(context, numbers, validationParameters, parallelism);
+    }
+
     /**
      * Transfer licenses between licensees.
      *
@@ -214,15 +316,53 @@ public class LicenseeService {
      */
     public static void transfer(final Context context, final String number, final String sourceLicenseeNumber)
             throws NetLicensingException {
+        NetLicensingService.getInstance().post(context, transferPath(number), transferForm(sourceLicenseeNumber),
+                Licensee.class);
+    }
+
+    /**
+     * Asynchronous variant of {@link #transfer(Context, String, String)}.
+     *
+     * @return future completed when the licenses are transferred, or exceptionally with {@link NetLicensingException}
+     *         in case of a service error
+     */
+    public static CompletableFuture<Void> transferAsync(final Context context, final String number,
+            final String sourceLicenseeNumber) {
+        return NetLicensingService.async(() -> NetLicensingService.getInstance().postAsync(context,
+                transferPath(number), transferForm(sourceLicenseeNumber), Licensee.class)
+                .thenApply(licensee -> null));
+    }
+
+    // *** request building, shared by the synchronous and asynchronous variants ***
+
+    private static String path(final String number) throws MalformedArgumentsException {
         CheckUtils.paramNotEmpty(number, "number");
-        CheckUtils.paramNotEmpty(sourceLicenseeNumber, Constants.Licensee.SOURCE_LICENSEE_NUMBER);
+        return Constants.Licensee.ENDPOINT_PATH + "/" + number;
+    }
+
+    private static Form form(final Licensee licensee) throws MalformedArgumentsException {
+        CheckUtils.paramNotNull(licensee, "licensee");
+        return ConvertUtils.entityToForm(licensee);
+    }
 
+    private static Form createForm(final String productNumber, final Licensee licensee)
+            throws MalformedArgumentsException {
+        final Form form = form(licensee);
+        if (StringUtils.isNotBlank(productNumber)) {
+            form.param(Constants.Product.PRODUCT_NUMBER, productNumber);
+        }
+        return form;
+    }
+
+    private static String transferPath(final String number) throws MalformedArgumentsException {
+        return path(number) + "/" + Constants.Licensee.ENDPOINT_PATH_TRANSFER;
+    }
+
+    private static Form transferForm(final String sourceLicenseeNumber) throws MalformedArgumentsException {
+        CheckUtils.paramNotEmpty(sourceLicenseeNumber, Constants.Licensee.SOURCE_LICENSEE_NUMBER);
         final Form form = new Form();
         form.param(Constants.Licensee.SOURCE_LICENSEE_NUMBER, sourceLicenseeNumber);
-
-        NetLicensingService.getInstance().post(context,
-                Constants.Licensee.ENDPOINT_PATH + "/" + number + "/" + Constants.Licensee.ENDPOINT_PATH_TRANSFER, form,
-                Licensee.class);
+        return form;
     }
 
 }
@@ -12,13 +12,22 @@
  */
 package com.labs64.netlicensing.service;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import jakarta.xml.bind.JAXBException;
 
 import com.labs64.netlicensing.provider.HttpMethod;
 import com.labs64.netlicensing.provider.Form;
 
 import org.apache.commons.lang3.StringUtils;
+import org.w3c.dom.Document;
 
 import com.labs64.netlicensing.domain.Constants;
 import com.labs64.netlicensing.domain.EntityFactory;
@@ -32,8 +41,10 @@ import com.labs64.netlicensing.provider.RestProvider;
 import com.labs64.netlicensing.provider.RestProviderImpl;
 import com.labs64.netlicensing.provider.RestResponse;
 import com.labs64.netlicensing.schema.SchemaFunction;
+import com.labs64.netlicensing.schema.context.Item;
 import com.labs64.netlicensing.schema.context.Netlicensing;
 import com.labs64.netlicensing.util.CheckUtils;
+import com.labs64.netlicensing.util.JAXBUtils;
 import com.labs64.netlicensing.util.SignatureUtils;
 
 /**
@@ -107,6 +118,65 @@ public class NetLicensingService {
         return entityFactory.createPage(netlicensing, resultType);
     }
 
+    /**
+     * Helper method for performing GET request to NetLicensing API list services, handing each entity of the result
+     * page to the consumer while the response is still being read. Linked entities contained in the response are not
+     * resolved.
+     * <p>
+     * If the context holds a public key, the response has to be verified before any entity is passed on, so it is
+     * read completely first.
+     *
+     * @param context
+     *            context for the NetLicensing API call
+     * @param urlTemplate
+     *            the REST URL template
+     * @param queryParams
+     *            The REST query parameters values. May be null if there are no parameters.
+     * @param resultType
+     *            the type of the item of the result page
+     * @param consumer
+     *            receives the entities with type resultType from the response
+     * @return page information of the response; the page content is empty
+     * @throws com.labs64.netlicensing.exception.NetLicensingException
+     */
+    <RES> Page<RES> list(final Context context, final String urlTemplate, final Map<String, String> queryParams,
+            final Class<RES> resultType, final Consumer<RES> consumer) throws NetLicensingException {
+        CheckUtils.paramNotNull(context, "context");
+        CheckUtils.paramNotNull(consumer, "consumer");
+        final Consumer<Item> itemConsumer = item -> {
+            try {
+                final RES entity = entityFactory.createFromItem(item, resultType);
+                if (entity != null) {
+                    consumer.accept(entity);
+                }
+            } catch (final NetLicensingException e) {
+                throw new ItemConversionException(e);
+            }
+        };
+
+        try {
+            final Netlicensing netlicensing;
+            if (StringUtils.isNotEmpty(context.getPublicKey())) {
+                // not coalesced, the items are taken out of the response
+                netlicensing = send(context, HttpMethod.GET, urlTemplate, null,
+                        combineQueryParams(context, HttpMethod.GET, queryParams));
+                if ((netlicensing != null) && (netlicensing.getItems() != null)) {
+                    final List<Item> items = new ArrayList<>(netlicensing.getItems().getItem());
+                    netlicensing.getItems().getItem().clear();
+                    items.forEach(itemConsumer);
+                }
+            } else {
+                final RestProviderImpl restProvider = new RestProviderImpl(context.getBaseUrl());
+                configure(restProvider, context);
+                netlicensing = handleResponse(context, restProvider.call(HttpMethod.GET.name(), urlTemplate, null,
+                        combineQueryParams(context, HttpMethod.GET, queryParams), itemConsumer));
+            }
+            return entityFactory.createPage(netlicensing, resultType);
+        } catch (final ItemConversionException e) {
+            throw e.getCause();
+        }
+    }
+
     /**
      * Helper method for performing POST request to NetLicensing API services. Finds and returns first suitable item
      * with type resultType from the response.
@@ -172,34 +242,230 @@ public class NetLicensingService {
             final Map<String, String> queryParams) throws NetLicensingException {
         CheckUtils.paramNotNull(context, "context");
 
-        Form combinedRequest = request;
-        Map<String, String> combinedQueryParams = queryParams;
-        if (StringUtils.isNotBlank(context.getVendorNumber())) {
-            if (HttpMethod.POST.equals(method)) {
-                if (combinedRequest == null) {
-                    combinedRequest = new Form();
-                }
-                combinedRequest.param(Constants.Vendor.VENDOR_NUMBER, context.getVendorNumber());
-            } else {
-                if (combinedQueryParams == null) {
-                    combinedQueryParams = new HashMap<>();
-                }
-                combinedQueryParams.put(Constants.Vendor.VENDOR_NUMBER, context.getVendorNumber());
+        final Form combinedRequest = combineRequest(context, method, request);
+        final Map<String, String> combinedQueryParams = combineQueryParams(context, method, queryParams);
+        final RequestCoalescer coalescer = coalescerOf(context, method, urlTemplate);
+        if (coalescer != null) {
+            return coalescer.execute(
+                    RequestCoalescer.key(context, method, urlTemplate, combinedRequest, combinedQueryParams),
+                    () -> send(context, method, urlTemplate, combinedRequest, combinedQueryParams));
+        }
+        return send(context, method, urlTemplate, combinedRequest, combinedQueryParams);
+    }
+
+    /**
+     * Asynchronous variant of {@link #request(Context, HttpMethod, String, Form, Map)}, built on the non-blocking
+     * HTTP client API. Response processing runs on the executor given by {@link RestProvider.Configuration}.
+     *
+     * @return future of the {@link Netlicensing} response object, completed exceptionally with
+     *         {@link NetLicensingException} in case of a failure
+     */
+    public CompletableFuture<Netlicensing> requestAsync(final Context context, final HttpMethod method,
+            final String urlTemplate, final Form request, final Map<String, String> queryParams) {
+        return async(() -> {
+            CheckUtils.paramNotNull(context, "context");
+
+            final Form combinedRequest = combineRequest(context, method, request);
+            final Map<String, String> combinedQueryParams = combineQueryParams(context, method, queryParams);
+            final RequestCoalescer coalescer = coalescerOf(context, method, urlTemplate);
+            if (coalescer != null) {
+                return coalescer.executeAsync(
+                        RequestCoalescer.key(context, method, urlTemplate, combinedRequest, combinedQueryParams),
+                        () -> async(() -> sendAsync(context, method, urlTemplate, combinedRequest,
+                                combinedQueryParams)));
             }
+            return sendAsync(context, method, urlTemplate, combinedRequest, combinedQueryParams);
+        });
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(Context, String, Map, Class, MetaInfo...)}.
+     */
+    <RES> CompletableFuture<RES> getAsync(final Context context, final String urlTemplate,
+            final Map<String, String> queryParams, final Class<RES> resultType, final MetaInfo... meta) {
+        return requestAsync(context, HttpMethod.GET, urlTemplate, null, queryParams)
+                .thenApply(unchecked(netlicensing -> processResponse(meta, netlicensing, resultType)));
+    }
+
+    /**
+     * Asynchronous variant of {@link #list(Context, String, Map, Class)}.
+     */
+    <RES> CompletableFuture<Page<RES>> listAsync(final Context context, final String urlTemplate,
+            final Map<String, String> queryParams, final Class<RES> resultType) {
+        return requestAsync(context, HttpMethod.GET, urlTemplate, null, queryParams)
+                .thenApply(unchecked(netlicensing -> entityFactory.createPage(netlicensing, resultType)));
+    }
+
+    /**
+     * Asynchronous variant of {@link #post(Context, String, Form, Class, MetaInfo...)}.
+     */
+    <RES> CompletableFuture<RES> postAsync(final Context context, final String urlTemplate, final Form request,
+            final Class<RES> resultType, final MetaInfo... meta) {
+        return requestAsync(context, HttpMethod.POST, urlTemplate, request, null)
+                .thenApply(unchecked(netlicensing -> (netlicensing == null)
+                        ? null
+                        : processResponse(meta, netlicensing, resultType)));
+    }
+
+    /**
+     * Asynchronous variant of {@link #delete(Context, String, Map)}.
+     */
+    CompletableFuture<Void> deleteAsync(final Context context, final String urlTemplate,
+            final Map<String, String> queryParams) {
+        return requestAsync(context, HttpMethod.DELETE, urlTemplate, null, queryParams).thenApply(netlicensing -> null);
+    }
+
+    /**
+     * Builds the query parameters of a list request, shared by the variants of the list methods of the services.
+     *
+     * @param filter
+     *            filter of the list request, may be blank
+     * @return query parameters of the list request
+     */
+    static Map<String, String> filterParams(final String filter) {
+        final Map<String, String> params = new HashMap<>();
+        if (StringUtils.isNotBlank(filter)) {
+            params.put(Constants.FILTER, filter);
+        }
+        return params;
+    }
+
+    /**
+     * Builds the query parameters of a delete request, shared by the variants of the delete methods of the services.
+     *
+     * @param forceCascade
+     *            if true, any entities that depend on the one being deleted will be deleted too
+     * @return query parameters of the delete request
+     */
+    static Map<String, String> cascadeParams(final boolean forceCascade) {
+        return Map.of(Constants.CASCADE, String.valueOf(forceCascade));
+    }
+
+    /**
+     * Sends the request with the already combined parameters and handles the response.
+     */
+    private Netlicensing send(final Context context, final HttpMethod method, final String urlTemplate,
+            final Form combinedRequest, final Map<String, String> combinedQueryParams) throws NetLicensingException {
+        final RestProviderImpl restProvider = new RestProviderImpl(context.getBaseUrl());
+        configure(restProvider, context);
+
+        if (StringUtils.isNotEmpty(context.getPublicKey())) {
+            return handleResponse(context, verify(context, restProvider.call(method.name(), urlTemplate,
+                    combinedRequest, Document.class, combinedQueryParams)));
         }
+        return handleResponse(context, restProvider.call(method.name(), urlTemplate, combinedRequest,
+                Netlicensing.class, combinedQueryParams));
+    }
 
+    /**
+     * Asynchronous variant of {@link #send(Context, HttpMethod, String, Form, Map)}.
+     */
+    private CompletableFuture<Netlicensing> sendAsync(final Context context, final HttpMethod method,
+            final String urlTemplate, final Form combinedRequest, final Map<String, String> combinedQueryParams)
+            throws NetLicensingException {
         final RestProviderImpl restProvider = new RestProviderImpl(context.getBaseUrl());
         configure(restProvider, context);
-        
-        final RestResponse<Netlicensing> response = restProvider.call(method.name(), urlTemplate, combinedRequest, Netlicensing.class,
-                combinedQueryParams);
 
+        if (StringUtils.isNotEmpty(context.getPublicKey())) {
+            return restProvider.callAsync(method.name(), urlTemplate, combinedRequest, Document.class,
+                    combinedQueryParams)
+                    .thenApply(unchecked(response -> handleResponse(context, verify(context, response))));
+        }
+        return restProvider.callAsync(method.name(), urlTemplate, combinedRequest, Netlicensing.class,
+                combinedQueryParams)
+                .thenApply(unchecked(response -> handleResponse(context, response)));
+    }
+
+    /**
+     * @return the request coalescer of the context, or null if the context has none or the request must not be
+     *         coalesced
+     */
+    private RequestCoalescer coalescerOf(final Context context, final HttpMethod method, final String urlTemplate) {
+        if (context.containsKey(RequestCoalescer.class) && RequestCoalescer.isCoalescable(method, urlTemplate)) {
+            final Object coalescer = context.getObject(RequestCoalescer.class);
+            if (coalescer instanceof RequestCoalescer) {
+                return (RequestCoalescer) coalescer;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds the vendor number of the context to the request body of POST requests.
+     */
+    private Form combineRequest(final Context context, final HttpMethod method, final Form request) {
+        Form combinedRequest = request;
+        if (StringUtils.isNotBlank(context.getVendorNumber()) && HttpMethod.POST.equals(method)) {
+            if (combinedRequest == null) {
+                combinedRequest = new Form();
+            }
+            combinedRequest.param(Constants.Vendor.VENDOR_NUMBER, context.getVendorNumber());
+        }
+        return combinedRequest;
+    }
+
+    /**
+     * Adds the vendor number of the context to the query parameters of non-POST requests.
+     */
+    private Map<String, String> combineQueryParams(final Context context, final HttpMethod method,
+            final Map<String, String> queryParams) {
+        Map<String, String> combinedQueryParams = queryParams;
+        if (StringUtils.isNotBlank(context.getVendorNumber()) && !HttpMethod.POST.equals(method)) {
+            if (combinedQueryParams == null) {
+                combinedQueryParams = new HashMap<>();
+            }
+            combinedQueryParams.put(Constants.Vendor.VENDOR_NUMBER, context.getVendorNumber());
+        }
+        return combinedQueryParams;
+    }
+
+    /**
+     * Verifies the signature of a successful response on the document as received and converts the response.
+     *
+     * @param context
+     *            context for the NetLicensing API call, holds the public key
+     * @param response
+     *            response received from the RESTful provider
+     * @return response with the {@link Netlicensing} entity
+     * @throws NetLicensingException
+     */
+    private RestResponse<Netlicensing> verify(final Context context, final RestResponse<Document> response)
+            throws NetLicensingException {
+        final RestResponse<Netlicensing> verified = new RestResponse<>();
+        verified.setStatusCode(response.getStatusCode());
+        verified.setHeaders(response.getHeaders());
+        final Document document = response.getEntity();
+        if (document != null) {
+            if (response.getStatusCode() == 200) {
+                SignatureUtils.check(context, document);
+            }
+            try {
+                verified.setEntity(JAXBUtils.readObjectFromNode(document, Netlicensing.class));
+            } catch (final JAXBException e) {
+                if (!isErrorStatus(response.getStatusCode())) {
+                    throw new RestException("Could not interpret the response body.", e);
+                }
+            }
+        }
+        return verified;
+    }
+
+    /**
+     * Provides error handling based on status of the response.
+     *
+     * @param context
+     *            context for the NetLicensing API call
+     * @param response
+     *            response received from the RESTful provider
+     * @return {@link Netlicensing} response object, or null if response has no content
+     * @throws NetLicensingException
+     */
+    private Netlicensing handleResponse(final Context context, final RestResponse<Netlicensing> response)
+            throws NetLicensingException {
         if (!isErrorStatus(response.getStatusCode())) {
             switch (response.getStatusCode()) {
             case 200:
-                final Netlicensing netlicensing = response.getEntity();
-                SignatureUtils.check(context, netlicensing);
-                return netlicensing;
+                return response.getEntity();
             case 204:
                 return null;
             default:
@@ -269,4 +535,68 @@ public class NetLicensingService {
         return entityFactory.create(netlicensing, resultType);
     }
 
+    /**
+     * Carries a conversion failure out of the item consumer of a streamed list.
+     */
+    private static final class ItemConversionException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private ItemConversionException(final NetLicensingException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized NetLicensingException getCause() {
+            return (NetLicensingException) super.getCause();
+        }
+
+    }
+
+    /**
+     * Function of the asynchronous response processing chain that may fail with {@link NetLicensingException}.
+     */
+    @FunctionalInterface
+    interface ResponseFunction<T, R> {
+
+        R apply(T t) throws NetLicensingException;
+
+    }
+
+    /**
+     * Asynchronous call that may fail with {@link NetLicensingException} before the request is sent, e.g. on a
+     * parameter check.
+     */
+    @FunctionalInterface
+    interface AsyncCall<R> {
+
+        CompletableFuture<R> call() throws NetLicensingException;
+
+    }
+
+    /**
+     * Wraps a {@link ResponseFunction} for use in a {@link CompletableFuture} chain, rethrowing
+     * {@link NetLicensingException} as the cause of a {@link CompletionException}.
+     */
+    static <T, R> Function<T, R> unchecked(final ResponseFunction<T, R> function) {
+        return t -> {
+            try {
+                return function.apply(t);
+            } catch (final NetLicensingException e) {
+                throw new CompletionException(e);
+            }
+        };
+    }
+
+    /**
+     * Performs an {@link AsyncCall}, turning an exception thrown synchronously into an exceptionally completed future.
+     */
+    static <R> CompletableFuture<R> async(final AsyncCall<R> call) {
+        try {
+            return call.call();
+        } catch (final NetLicensingException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
 }
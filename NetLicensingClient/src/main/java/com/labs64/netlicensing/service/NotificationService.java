@@ -16,14 +16,14 @@ import com.labs64.netlicensing.domain.Constants;
 import com.labs64.netlicensing.domain.entity.Notification;
 import com.labs64.netlicensing.domain.vo.Context;
 import com.labs64.netlicensing.domain.vo.Page;
+import com.labs64.netlicensing.exception.MalformedArgumentsException;
 import com.labs64.netlicensing.exception.NetLicensingException;
+import com.labs64.netlicensing.provider.Form;
 import com.labs64.netlicensing.util.CheckUtils;
 import com.labs64.netlicensing.util.ConvertUtils;
 
-import org.apache.commons.lang3.StringUtils;
-
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 public class NotificationService {
     /**
@@ -37,8 +37,19 @@ public class NotificationService {
      *                               corresponding service response messages.
      */
     public static Notification create(final Context context, final Notification notification) throws NetLicensingException {
-        CheckUtils.paramNotNull(notification, "notification");
-        return NetLicensingService.getInstance().post(context, Constants.Notification.ENDPOINT_PATH, ConvertUtils.entityToForm(notification), Notification.class);
+        return NetLicensingService.getInstance().post(context, Constants.Notification.ENDPOINT_PATH,
+                form(notification), Notification.class);
+    }
+
+    /**
+     * Asynchronous variant of {@link #create(Context, Notification)}.
+     *
+     * @return future of the newly created notification, completed exceptionally with
+     *         {@link NetLicensingException} in case of a service error
+     */
+    public static CompletableFuture<Notification> createAsync(final Context context, final Notification notification) {
+        return NetLicensingService.async(() -> NetLicensingService.getInstance().postAsync(context,
+                Constants.Notification.ENDPOINT_PATH, form(notification), Notification.class));
     }
 
     /**
@@ -51,8 +62,18 @@ public class NotificationService {
      *                               corresponding service response messages.
      */
     public static Notification get(final Context context, final String number) throws NetLicensingException {
-        CheckUtils.paramNotEmpty(number, "number");
-        return NetLicensingService.getInstance().get(context, Constants.Notification.ENDPOINT_PATH + "/" + number, null, Notification.class);
+        return NetLicensingService.getInstance().get(context, path(number), null, Notification.class);
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(Context, String)}.
+     *
+     * @return future of the notification, completed exceptionally with {@link NetLicensingException} in case of a
+     *         service error
+     */
+    public static CompletableFuture<Notification> getAsync(final Context context, final String number) {
+        return NetLicensingService.async(() -> NetLicensingService.getInstance().getAsync(context, path(number), null,
+                Notification.class));
     }
 
     /**
@@ -65,11 +86,40 @@ public class NotificationService {
      *                               corresponding service response messages.
      */
     public static Page<Notification> list(final Context context, final String filter) throws NetLicensingException {
-        final Map<String, String> params = new HashMap<>();
-        if (StringUtils.isNotBlank(filter)) {
-            params.put(Constants.FILTER, filter);
-        }
-        return NetLicensingService.getInstance().list(context, Constants.Notification.ENDPOINT_PATH, params, Notification.class);
+        return NetLicensingService.getInstance().list(context, Constants.Notification.ENDPOINT_PATH,
+                NetLicensingService.filterParams(filter), Notification.class);
+    }
+
+    /**
+     * Asynchronous variant of {@link #list(Context, String)}.
+     *
+     * @return future of the notification page, completed exceptionally with {@link NetLicensingException} in case
+     *         of a service error
+     */
+    public static CompletableFuture<Page<Notification>> listAsync(final Context context, final String filter) {
+        return NetLicensingService.getInstance().listAsync(context, Constants.Notification.ENDPOINT_PATH,
+                NetLicensingService.filterParams(filter), Notification.class);
+    }
+
+    /**
+     * Streaming variant of {@link #list(Context, String)}: passes the notifications to the consumer one by one while
+     * the response is being read, without holding the whole page in memory. Linked entities are not resolved.
+     *
+     * @param context
+     *            determines the vendor on whose behalf the call is performed
+     * @param filter
+     *            reserved for the future use, must be omitted / set to NULL
+     * @param consumer
+     *            receives the notifications of the page
+     * @return page information; the page content is empty
+     * @throws com.labs64.netlicensing.exception.NetLicensingException
+     *             any subclass of {@linkplain com.labs64.netlicensing.exception.NetLicensingException}. These exceptions will be transformed to the
+     *             corresponding service response messages.
+     */
+    public static Page<Notification> list(final Context context, final String filter,
+            final Consumer<Notification> consumer) throws NetLicensingException {
+        return NetLicensingService.getInstance().list(context, Constants.Notification.ENDPOINT_PATH,
+                NetLicensingService.filterParams(filter), Notification.class, consumer);
     }
 
     /**
@@ -84,11 +134,19 @@ public class NotificationService {
      */
     public static Notification update(final Context context, final String number, final Notification notification)
             throws NetLicensingException {
-        CheckUtils.paramNotEmpty(number, "number");
-        CheckUtils.paramNotNull(notification, "notification");
+        return NetLicensingService.getInstance().post(context, path(number), form(notification), Notification.class);
+    }
 
-        return NetLicensingService.getInstance().post(context, Constants.Notification.ENDPOINT_PATH + "/" + number, ConvertUtils.entityToForm(notification),
-                Notification.class);
+    /**
+     * Asynchronous variant of {@link #update(Context, String, Notification)}.
+     *
+     * @return future of the updated notification, completed exceptionally with {@link NetLicensingException} in
+     *         case of a service error
+     */
+    public static CompletableFuture<Notification> updateAsync(final Context context, final String number,
+            final Notification notification) {
+        return NetLicensingService.async(() -> NetLicensingService.getInstance().postAsync(context, path(number),
+                form(notification), Notification.class));
     }
 
     /**
@@ -101,9 +159,30 @@ public class NotificationService {
      */
     public static void delete(final Context context, final String number)
             throws NetLicensingException {
+        NetLicensingService.getInstance().delete(context, path(number), null);
+    }
+
+    /**
+     * Asynchronous variant of {@link #delete(Context, String)}.
+     *
+     * @return future completed when the notification is deleted, or exceptionally with
+     *         {@link NetLicensingException} in case of a service error
+     */
+    public static CompletableFuture<Void> deleteAsync(final Context context, final String number) {
+        return NetLicensingService.async(() -> NetLicensingService.getInstance().deleteAsync(context, path(number),
+                null));
+    }
+
+    // *** request building, shared by the synchronous and asynchronous variants ***
+
+    private static String path(final String number) throws MalformedArgumentsException {
         CheckUtils.paramNotEmpty(number, "number");
+        return Constants.Notification.ENDPOINT_PATH + "/" + number;
+    }
 
-        NetLicensingService.getInstance().delete(context, Constants.Notification.ENDPOINT_PATH + "/" + number, null);
+    private static Form form(final Notification notification) throws MalformedArgumentsException {
+        CheckUtils.paramNotNull(notification, "notification");
+        return ConvertUtils.entityToForm(notification);
     }
 
 }
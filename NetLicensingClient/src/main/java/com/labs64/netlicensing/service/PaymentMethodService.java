@@ -12,16 +12,16 @@
  */
 package com.labs64.netlicensing.service;
 
-import java.util.HashMap;
-import java.util.Map;
-
-import org.apache.commons.lang3.StringUtils;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import com.labs64.netlicensing.domain.Constants;
 import com.labs64.netlicensing.domain.entity.PaymentMethod;
 import com.labs64.netlicensing.domain.vo.Context;
 import com.labs64.netlicensing.domain.vo.Page;
+import com.labs64.netlicensing.exception.MalformedArgumentsException;
 import com.labs64.netlicensing.exception.NetLicensingException;
+import com.labs64.netlicensing.provider.Form;
 import com.labs64.netlicensing.util.CheckUtils;
 import com.labs64.netlicensing.util.ConvertUtils;
 
@@ -43,9 +43,18 @@ public class PaymentMethodService {
      *             corresponding service response messages.
      */
     public static PaymentMethod get(final Context context, final String number) throws NetLicensingException {
-        CheckUtils.paramNotEmpty(number, "number");
+        return NetLicensingService.getInstance().get(context, path(number), null, PaymentMethod.class);
+    }
 
-        return NetLicensingService.getInstance().get(context, Constants.PaymentMethod.ENDPOINT_PATH + "/" + number, null, PaymentMethod.class);
+    /**
+     * Asynchronous variant of {@link #get(Context, String)}.
+     *
+     * @return future of the payment method, completed exceptionally with {@link NetLicensingException} in case of a
+     *         service error
+     */
+    public static CompletableFuture<PaymentMethod> getAsync(final Context context, final String number) {
+        return NetLicensingService.async(() -> NetLicensingService.getInstance().getAsync(context, path(number), null,
+                PaymentMethod.class));
     }
 
     /**
@@ -61,11 +70,40 @@ public class PaymentMethodService {
      *             corresponding service response messages.
      */
     public static Page<PaymentMethod> list(final Context context, final String filter) throws NetLicensingException {
-        final Map<String, String> params = new HashMap<>();
-        if (StringUtils.isNotBlank(filter)) {
-            params.put(Constants.FILTER, filter);
-        }
-        return NetLicensingService.getInstance().list(context, Constants.PaymentMethod.ENDPOINT_PATH, params, PaymentMethod.class);
+        return NetLicensingService.getInstance().list(context, Constants.PaymentMethod.ENDPOINT_PATH,
+                NetLicensingService.filterParams(filter), PaymentMethod.class);
+    }
+
+    /**
+     * Asynchronous variant of {@link #list(Context, String)}.
+     *
+     * @return future of the payment method page, completed exceptionally with {@link NetLicensingException} in case
+     *         of a service error
+     */
+    public static CompletableFuture<Page<PaymentMethod>> listAsync(final Context context, final String filter) {
+        return NetLicensingService.getInstance().listAsync(context, Constants.PaymentMethod.ENDPOINT_PATH,
+                NetLicensingService.filterParams(filter), PaymentMethod.class);
+    }
+
+    /**
+     * Streaming variant of {@link #list(Context, String)}: passes the payment methods to the consumer one by one while
+     * the response is being read, without holding the whole page in memory. Linked entities are not resolved.
+     *
+     * @param context
+     *            determines the vendor on whose behalf the call is performed
+     * @param filter
+     *            reserved for the future use, must be omitted / set to NULL
+     * @param consumer
+     *            receives the payment methods of the page
+     * @return page information; the page content is empty
+     * @throws com.labs64.netlicensing.exception.NetLicensingException
+     *             any subclass of {@linkplain com.labs64.netlicensing.exception.NetLicensingException}. These exceptions will be transformed to the
+     *             corresponding service response messages.
+     */
+    public static Page<PaymentMethod> list(final Context context, final String filter,
+            final Consumer<PaymentMethod> consumer) throws NetLicensingException {
+        return NetLicensingService.getInstance().list(context, Constants.PaymentMethod.ENDPOINT_PATH,
+                NetLicensingService.filterParams(filter), PaymentMethod.class, consumer);
     }
 
     /**
@@ -84,11 +122,31 @@ public class PaymentMethodService {
      */
     public static PaymentMethod update(final Context context, final String number, final PaymentMethod paymentMethod)
             throws NetLicensingException {
+        return NetLicensingService.getInstance().post(context, path(number), form(paymentMethod), PaymentMethod.class);
+    }
+
+    /**
+     * Asynchronous variant of {@link #update(Context, String, PaymentMethod)}.
+     *
+     * @return future of the updated payment method, completed exceptionally with {@link NetLicensingException} in
+     *         case of a service error
+     */
+    public static CompletableFuture<PaymentMethod> updateAsync(final Context context, final String number,
+            final PaymentMethod paymentMethod) {
+        return NetLicensingService.async(() -> NetLicensingService.getInstance().postAsync(context, path(number),
+                form(paymentMethod), PaymentMethod.class));
+    }
+
+    // *** request building, shared by the synchronous and asynchronous variants ***
+
+    private static String path(final String number) throws MalformedArgumentsException {
         CheckUtils.paramNotEmpty(number, "number");
-        CheckUtils.paramNotNull(paymentMethod, "paymentMethod");
+        return Constants.PaymentMethod.ENDPOINT_PATH + "/" + number;
+    }
 
-        return NetLicensingService.getInstance().post(context, Constants.PaymentMethod.ENDPOINT_PATH + "/" + number,
-                ConvertUtils.entityToForm(paymentMethod), PaymentMethod.class);
+    private static Form form(final PaymentMethod paymentMethod) throws MalformedArgumentsException {
+        CheckUtils.paramNotNull(paymentMethod, "paymentMethod");
+        return ConvertUtils.entityToForm(paymentMethod);
     }
 
 }
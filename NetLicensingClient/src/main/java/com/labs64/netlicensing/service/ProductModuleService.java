@@ -12,8 +12,8 @@
  */
 package com.labs64.netlicensing.service;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import com.labs64.netlicensing.provider.Form;
 
@@ -23,6 +23,7 @@ import com.labs64.netlicensing.domain.Constants;
 import com.labs64.netlicensing.domain.entity.ProductModule;
 import com.labs64.netlicensing.domain.vo.Context;
 import com.labs64.netlicensing.domain.vo.Page;
+import com.labs64.netlicensing.exception.MalformedArgumentsException;
 import com.labs64.netlicensing.exception.NetLicensingException;
 import com.labs64.netlicensing.util.CheckUtils;
 import com.labs64.netlicensing.util.ConvertUtils;
@@ -54,13 +55,20 @@ public class ProductModuleService {
      */
     public static ProductModule create(final Context context, final String productNumber,
             final ProductModule productModule) throws NetLicensingException {
-        CheckUtils.paramNotNull(productModule, "productNumber");
+        return NetLicensingService.getInstance().post(context, Constants.ProductModule.ENDPOINT_PATH,
+                createForm(productNumber, productModule), ProductModule.class);
+    }
 
-        final Form form = ConvertUtils.entityToForm(productModule);
-        if (StringUtils.isNotBlank(productNumber)) {
-            form.param(Constants.Product.PRODUCT_NUMBER, productNumber);
-        }
-        return NetLicensingService.getInstance().post(context, Constants.ProductModule.ENDPOINT_PATH, form, ProductModule.class);
+    /**
+     * Asynchronous variant of {@link #create(Context, String, ProductModule)}.
+     *
+     * @return future of the newly created product module, completed exceptionally with
+     *         {@link NetLicensingException} in case of a service error
+     */
+    public static CompletableFuture<ProductModule> createAsync(final Context context, final String productNumber,
+            final ProductModule productModule) {
+        return NetLicensingService.async(() -> NetLicensingService.getInstance().postAsync(context,
+                Constants.ProductModule.ENDPOINT_PATH, createForm(productNumber, productModule), ProductModule.class));
     }
 
     /**
@@ -76,9 +84,18 @@ public class ProductModuleService {
      *             corresponding service response messages.
      */
     public static ProductModule get(final Context context, final String number) throws NetLicensingException {
-        CheckUtils.paramNotEmpty(number, "number");
+        return NetLicensingService.getInstance().get(context, path(number), null, ProductModule.class);
+    }
 
-        return NetLicensingService.getInstance().get(context, Constants.ProductModule.ENDPOINT_PATH + "/" + number, null, ProductModule.class);
+    /**
+     * Asynchronous variant of {@link #get(Context, String)}.
+     *
+     * @return future of the product module, completed exceptionally with {@link NetLicensingException} in case of a
+     *         service error
+     */
+    public static CompletableFuture<ProductModule> getAsync(final Context context, final String number) {
+        return NetLicensingService.async(() -> NetLicensingService.getInstance().getAsync(context, path(number), null,
+                ProductModule.class));
     }
 
     /**
@@ -94,11 +111,40 @@ public class ProductModuleService {
      *             corresponding service response messages.
      */
     public static Page<ProductModule> list(final Context context, final String filter) throws NetLicensingException {
-        final Map<String, String> params = new HashMap<>();
-        if (StringUtils.isNotBlank(filter)) {
-            params.put(Constants.FILTER, filter);
-        }
-        return NetLicensingService.getInstance().list(context, Constants.ProductModule.ENDPOINT_PATH, params, ProductModule.class);
+        return NetLicensingService.getInstance().list(context, Constants.ProductModule.ENDPOINT_PATH,
+                NetLicensingService.filterParams(filter), ProductModule.class);
+    }
+
+    /**
+     * Asynchronous variant of {@link #list(Context, String)}.
+     *
+     * @return future of the product module page, completed exceptionally with {@link NetLicensingException} in case
+     *         of a service error
+     */
+    public static CompletableFuture<Page<ProductModule>> listAsync(final Context context, final String filter) {
+        return NetLicensingService.getInstance().listAsync(context, Constants.ProductModule.ENDPOINT_PATH,
+                NetLicensingService.filterParams(filter), ProductModule.class);
+    }
+
+    /**
+     * Streaming variant of {@link #list(Context, String)}: passes the product modules to the consumer one by one while
+     * the response is being read, without holding the whole page in memory. Linked entities are not resolved.
+     *
+     * @param context
+     *            determines the vendor on whose behalf the call is performed
+     * @param filter
+     *            reserved for the future use, must be omitted / set to NULL
+     * @param consumer
+     *            receives the product modules of the page
+     * @return page information; the page content is empty
+     * @throws com.labs64.netlicensing.exception.NetLicensingException
+     *             any subclass of {@linkplain com.labs64.netlicensing.exception.NetLicensingException}. These exceptions will be transformed to the
+     *             corresponding service response messages.
+     */
+    public static Page<ProductModule> list(final Context context, final String filter,
+            final Consumer<ProductModule> consumer) throws NetLicensingException {
+        return NetLicensingService.getInstance().list(context, Constants.ProductModule.ENDPOINT_PATH,
+                NetLicensingService.filterParams(filter), ProductModule.class, consumer);
     }
 
     /**
@@ -117,11 +163,19 @@ public class ProductModuleService {
      */
     public static ProductModule update(final Context context, final String number, final ProductModule productModule)
             throws NetLicensingException {
-        CheckUtils.paramNotEmpty(number, "number");
-        CheckUtils.paramNotNull(productModule, "productModule");
+        return NetLicensingService.getInstance().post(context, path(number), form(productModule), ProductModule.class);
+    }
 
-        return NetLicensingService.getInstance().post(context, Constants.ProductModule.ENDPOINT_PATH + "/" + number,
-                ConvertUtils.entityToForm(productModule), ProductModule.class);
+    /**
+     * Asynchronous variant of {@link #update(Context, String, ProductModule)}.
+     *
+     * @return future of the updated product module, completed exceptionally with {@link NetLicensingException} in
+     *         case of a service error
+     */
+    public static CompletableFuture<ProductModule> updateAsync(final Context context, final String number,
+            final ProductModule productModule) {
+        return NetLicensingService.async(() -> NetLicensingService.getInstance().postAsync(context, path(number),
+                form(productModule), ProductModule.class));
     }
 
     /**
@@ -139,10 +193,41 @@ public class ProductModuleService {
      */
     public static void delete(final Context context, final String number, final boolean forceCascade)
             throws NetLicensingException {
+        NetLicensingService.getInstance().delete(context, path(number),
+                NetLicensingService.cascadeParams(forceCascade));
+    }
+
+    /**
+     * Asynchronous variant of {@link #delete(Context, String, boolean)}.
+     *
+     * @return future completed when the product module is deleted, or exceptionally with
+     *         {@link NetLicensingException} in case of a service error
+     */
+    public static CompletableFuture<Void> deleteAsync(final Context context, final String number,
+            final boolean forceCascade) {
+        return NetLicensingService.async(() -> NetLicensingService.getInstance().deleteAsync(context, path(number),
+                NetLicensingService.cascadeParams(forceCascade)));
+    }
+
+    // *** request building, shared by the synchronous and asynchronous variants ***
+
+    private static String path(final String number) throws MalformedArgumentsException {
         CheckUtils.paramNotEmpty(number, "number");
+        return Constants.ProductModule.ENDPOINT_PATH + "/" + number;
+    }
 
-        Map<String, String> params = Map.of(Constants.CASCADE, String.valueOf(forceCascade));
-        NetLicensingService.getInstance().delete(context, Constants.ProductModule.ENDPOINT_PATH + "/" + number, params);
+    private static Form form(final ProductModule productModule) throws MalformedArgumentsException {
+        CheckUtils.paramNotNull(productModule, "productModule");
+        return ConvertUtils.entityToForm(productModule);
+    }
+
+    private static Form createForm(final String productNumber, final ProductModule productModule)
+            throws MalformedArgumentsException {
+        final Form form = form(productModule);
+        if (StringUtils.isNotBlank(productNumber)) {
+            form.param(Constants.Product.PRODUCT_NUMBER, productNumber);
+        }
+        return form;
     }
 
 }
@@ -12,16 +12,16 @@
  */
 package com.labs64.netlicensing.service;
 
-import java.util.HashMap;
-import java.util.Map;
-
-import org.apache.commons.lang3.StringUtils;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import com.labs64.netlicensing.domain.Constants;
 import com.labs64.netlicensing.domain.entity.Product;
 import com.labs64.netlicensing.domain.vo.Context;
 import com.labs64.netlicensing.domain.vo.Page;
+import com.labs64.netlicensing.exception.MalformedArgumentsException;
 import com.labs64.netlicensing.exception.NetLicensingException;
+import com.labs64.netlicensing.provider.Form;
 import com.labs64.netlicensing.util.CheckUtils;
 import com.labs64.netlicensing.util.ConvertUtils;
 
@@ -52,9 +52,19 @@ public class ProductService {
      *             corresponding service response messages.
      */
     public static Product create(final Context context, final Product product) throws NetLicensingException {
-        CheckUtils.paramNotNull(product, "product");
+        return NetLicensingService.getInstance().post(context, Constants.Product.ENDPOINT_PATH, form(product),
+                Product.class);
+    }
 
-        return NetLicensingService.getInstance().post(context, Constants.Product.ENDPOINT_PATH, ConvertUtils.entityToForm(product), Product.class);
+    /**
+     * Asynchronous variant of {@link #create(Context, Product)}.
+     *
+     * @return future of the newly created product object, completed exceptionally with
+     *         {@link NetLicensingException} in case of a service error
+     */
+    public static CompletableFuture<Product> createAsync(final Context context, final Product product) {
+        return NetLicensingService.async(() -> NetLicensingService.getInstance().postAsync(context,
+                Constants.Product.ENDPOINT_PATH, form(product), Product.class));
     }
 
     /**
@@ -70,9 +80,18 @@ public class ProductService {
      *             corresponding service response messages.
      */
     public static Product get(final Context context, final String number) throws NetLicensingException {
-        CheckUtils.paramNotEmpty(number, "number");
+        return NetLicensingService.getInstance().get(context, path(number), null, Product.class);
+    }
 
-        return NetLicensingService.getInstance().get(context, Constants.Product.ENDPOINT_PATH + "/" + number, null, Product.class);
+    /**
+     * Asynchronous variant of {@link #get(Context, String)}.
+     *
+     * @return future of the product, completed exceptionally with {@link NetLicensingException} in case of a service
+     *         error
+     */
+    public static CompletableFuture<Product> getAsync(final Context context, final String number) {
+        return NetLicensingService.async(() -> NetLicensingService.getInstance().getAsync(context, path(number), null,
+                Product.class));
     }
 
     /**
@@ -89,11 +108,40 @@ public class ProductService {
      *             corresponding service response messages.
      */
     public static Page<Product> list(final Context context, final String filter) throws NetLicensingException {
-        final Map<String, String> params = new HashMap<>();
-        if (StringUtils.isNotBlank(filter)) {
-            params.put(Constants.FILTER, filter);
-        }
-        return NetLicensingService.getInstance().list(context, Constants.Product.ENDPOINT_PATH, params, Product.class);
+        return NetLicensingService.getInstance().list(context, Constants.Product.ENDPOINT_PATH,
+                NetLicensingService.filterParams(filter), Product.class);
+    }
+
+    /**
+     * Asynchronous variant of {@link #list(Context, String)}.
+     *
+     * @return future of the product page, completed exceptionally with {@link NetLicensingException} in case of a
+     *         service error
+     */
+    public static CompletableFuture<Page<Product>> listAsync(final Context context, final String filter) {
+        return NetLicensingService.getInstance().listAsync(context, Constants.Product.ENDPOINT_PATH,
+                NetLicensingService.filterParams(filter), Product.class);
+    }
+
+    /**
+     * Streaming variant of {@link #list(Context, String)}: passes the products to the consumer one by one while the
+     * response is being read, without holding the whole page in memory. Linked entities are not resolved.
+     *
+     * @param context
+     *            determines the vendor on whose behalf the call is performed
+     * @param filter
+     *            reserved for the future use, must be omitted / set to NULL
+     * @param consumer
+     *            receives the products of the page
+     * @return page information; the page content is empty
+     * @throws com.labs64.netlicensing.exception.NetLicensingException
+     *             any subclass of {@linkplain com.labs64.netlicensing.exception.NetLicensingException}. These exceptions will be transformed to the
+     *             corresponding service response messages.
+     */
+    public static Page<Product> list(final Context context, final String filter, final Consumer<Product> consumer)
+            throws NetLicensingException {
+        return NetLicensingService.getInstance().list(context, Constants.Product.ENDPOINT_PATH,
+                NetLicensingService.filterParams(filter), Product.class, consumer);
     }
 
     /**
@@ -112,11 +160,19 @@ public class ProductService {
      */
     public static Product update(final Context context, final String number, final Product product)
             throws NetLicensingException {
-        CheckUtils.paramNotEmpty(number, "number");
-        CheckUtils.paramNotNull(product, "product");
+        return NetLicensingService.getInstance().post(context, path(number), form(product), Product.class);
+    }
 
-        return NetLicensingService.getInstance().post(context, Constants.Product.ENDPOINT_PATH + "/" + number, ConvertUtils.entityToForm(product),
-                Product.class);
+    /**
+     * Asynchronous variant of {@link #update(Context, String, Product)}.
+     *
+     * @return future of the updated product, completed exceptionally with {@link NetLicensingException} in case of a
+     *         service error
+     */
+    public static CompletableFuture<Product> updateAsync(final Context context, final String number,
+            final Product product) {
+        return NetLicensingService.async(() -> NetLicensingService.getInstance().postAsync(context, path(number),
+                form(product), Product.class));
     }
 
     /**
@@ -134,10 +190,32 @@ public class ProductService {
      */
     public static void delete(final Context context, final String number, final boolean forceCascade)
             throws NetLicensingException {
+        NetLicensingService.getInstance().delete(context, path(number),
+                NetLicensingService.cascadeParams(forceCascade));
+    }
+
+    /**
+     * Asynchronous variant of {@link #delete(Context, String, boolean)}.
+     *
+     * @return future completed when the product is deleted, or exceptionally with {@link NetLicensingException} in
+     *         case of a service error
+     */
+    public static CompletableFuture<Void> deleteAsync(final Context context, final String number,
+            final boolean forceCascade) {
+        return NetLicensingService.async(() -> NetLicensingService.getInstance().deleteAsync(context, path(number),
+                NetLicensingService.cascadeParams(forceCascade)));
+    }
+
+    // *** request building, shared by the synchronous and asynchronous variants ***
+
+    private static String path(final String number) throws MalformedArgumentsException {
         CheckUtils.paramNotEmpty(number, "number");
+        return Constants.Product.ENDPOINT_PATH + "/" + number;
+    }
 
-        Map<String, String> params = Map.of(Constants.CASCADE, String.valueOf(forceCascade));
-        NetLicensingService.getInstance().delete(context, Constants.Product.ENDPOINT_PATH + "/" + number, params);
+    private static Form form(final Product product) throws MalformedArgumentsException {
+        CheckUtils.paramNotNull(product, "product");
+        return ConvertUtils.entityToForm(product);
     }
 
 }
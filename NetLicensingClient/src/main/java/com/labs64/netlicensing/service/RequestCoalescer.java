@@ -0,0 +1,231 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.labs64.netlicensing.service;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import com.labs64.netlicensing.domain.Constants;
+import com.labs64.netlicensing.domain.vo.Context;
+import com.labs64.netlicensing.domain.vo.SecurityMode;
+import com.labs64.netlicensing.exception.NetLicensingException;
+import com.labs64.netlicensing.provider.Form;
+import com.labs64.netlicensing.provider.HttpMethod;
+import com.labs64.netlicensing.schema.context.Netlicensing;
+
+/**
+ * Coalesces identical concurrent requests into a single call to NetLicensing (single-flight).
+ * <p>
+ * The coalescer is opt-in, to use it put an instance into the context:
+ *
+ * <pre>
+ * context.setObject(RequestCoalescer.class, new RequestCoalescer());
+ * </pre>
+ *
+ * GET requests and validations are coalesced; other requests modify data and are always sent. Requests are identical
+ * if they have the same method, base URL, URL template, query and form parameters and credentials. While a request is
+ * in flight, identical requests wait for it and all receive its response or exception. The shared
+ * {@link Netlicensing} response must not be modified.
+ * <p>
+ * One coalescer may be shared by several contexts.
+ */
+public class RequestCoalescer {
+
+    private final Map<Key, CompletableFuture<Netlicensing>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong requestCount = new AtomicLong();
+
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    /**
+     * @return number of requests sent to NetLicensing
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * @return number of requests served by joining an identical request in flight
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    /**
+     * @return true if requests with the given method and URL template are coalesced
+     */
+    static boolean isCoalescable(final HttpMethod method, final String urlTemplate) {
+        return HttpMethod.GET.equals(method) || (HttpMethod.POST.equals(method) && (urlTemplate != null)
+                && urlTemplate.endsWith("/" + Constants.Licensee.ENDPOINT_PATH_VALIDATE));
+    }
+
+    static Key key(final Context context, final HttpMethod method, final String urlTemplate, final Form request,
+            final Map<String, String> queryParams) {
+        return new Key(context, method, urlTemplate, request, queryParams);
+    }
+
+    /**
+     * Performs the call, or waits for the identical call in flight.
+     */
+    Netlicensing execute(final Key key, final Call call) throws NetLicensingException {
+        final CompletableFuture<Netlicensing> flight = new CompletableFuture<>();
+        final CompletableFuture<Netlicensing> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            coalescedCount.incrementAndGet();
+            return join(leader);
+        }
+        requestCount.incrementAndGet();
+        try {
+            final Netlicensing response = call.call();
+            flight.complete(response);
+            return response;
+        } catch (final NetLicensingException | RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Starts the call, or joins the identical call in flight.
+     */
+    CompletableFuture<Netlicensing> executeAsync(final Key key,
+            final Supplier<CompletableFuture<Netlicensing>> call) {
+        final CompletableFuture<Netlicensing> flight = new CompletableFuture<>();
+        final CompletableFuture<Netlicensing> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            coalescedCount.incrementAndGet();
+            // a caller cancelling its copy does not affect the others
+            return leader.thenApply(response -> response);
+        }
+        requestCount.incrementAndGet();
+        CompletableFuture<Netlicensing> response;
+        try {
+            response = call.get();
+        } catch (final RuntimeException e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+        response.whenComplete((netlicensing, e) -> {
+            inFlight.remove(key, flight);
+            if (e != null) {
+                flight.completeExceptionally((e instanceof CompletionException) && (e.getCause() != null)
+                        ? e.getCause()
+                        : e);
+            } else {
+                flight.complete(netlicensing);
+            }
+        });
+        return flight.thenApply(netlicensing -> netlicensing);
+    }
+
+    private static Netlicensing join(final CompletableFuture<Netlicensing> leader) throws NetLicensingException {
+        try {
+            return leader.join();
+        } catch (final CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof NetLicensingException) {
+                throw (NetLicensingException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Request that may fail with {@link NetLicensingException}.
+     */
+    @FunctionalInterface
+    interface Call {
+
+        Netlicensing call() throws NetLicensingException;
+
+    }
+
+    static final class Key {
+
+        private final HttpMethod method;
+
+        private final String baseUrl;
+
+        private final String urlTemplate;
+
+        /** parameters in canonical (sorted) order */
+        private final Map<String, String> form;
+
+        private final Map<String, String> queryParams;
+
+        private final SecurityMode securityMode;
+
+        private final String username;
+
+        private final String password;
+
+        private final String apiKey;
+
+        /** responses verified with different keys are not interchangeable */
+        private final List<String> publicKeys;
+
+        private final int hash;
+
+        private Key(final Context context, final HttpMethod method, final String urlTemplate, final Form request,
+                final Map<String, String> queryParams) {
+            this.method = method;
+            this.baseUrl = context.getBaseUrl();
+            this.urlTemplate = urlTemplate;
+            this.form = (request != null) ? new TreeMap<>(request.getParams()) : Collections.emptyMap();
+            this.queryParams = (queryParams != null) ? new TreeMap<>(queryParams) : Collections.emptyMap();
+            this.securityMode = context.getSecurityMode();
+            this.username = context.getUsername();
+            this.password = context.getPassword();
+            this.apiKey = context.getApiKey();
+            this.publicKeys = context.getPublicKeys();
+            this.hash = Objects.hash(method, baseUrl, urlTemplate, form, this.queryParams, securityMode, username,
+                    apiKey);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return (hash == other.hash) && (method == other.method) && Objects.equals(baseUrl, other.baseUrl)
+                    && Objects.equals(urlTemplate, other.urlTemplate) && form.equals(other.form)
+                    && queryParams.equals(other.queryParams) && (securityMode == other.securityMode)
+                    && Objects.equals(username, other.username) && Objects.equals(password, other.password)
+                    && Objects.equals(apiKey, other.apiKey) && Objects.equals(publicKeys, other.publicKeys);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+    }
+
+}
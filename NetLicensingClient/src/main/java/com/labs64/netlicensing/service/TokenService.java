@@ -12,18 +12,20 @@
  */
 package com.labs64.netlicensing.service;
 
-import java.util.HashMap;
-import java.util.Map;
-
-import org.apache.commons.lang3.StringUtils;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
 
 import com.labs64.netlicensing.domain.Constants;
 import com.labs64.netlicensing.domain.entity.Token;
 import com.labs64.netlicensing.domain.vo.Context;
 import com.labs64.netlicensing.domain.vo.Page;
+import com.labs64.netlicensing.exception.MalformedArgumentsException;
 import com.labs64.netlicensing.exception.NetLicensingException;
+import com.labs64.netlicensing.provider.Form;
 import com.labs64.netlicensing.util.CheckUtils;
 import com.labs64.netlicensing.util.ConvertUtils;
+import com.labs64.netlicensing.util.PagePublisher;
 
 /**
  * Provides token entity handling routines.
@@ -43,9 +45,18 @@ public class TokenService {
      *             exceptions will be transformed to the corresponding service response messages.
      */
     public static Token get(final Context context, final String number) throws NetLicensingException {
-        CheckUtils.paramNotEmpty(number, "number");
+        return NetLicensingService.getInstance().get(context, path(number), null, Token.class);
+    }
 
-        return NetLicensingService.getInstance().get(context, Constants.Token.ENDPOINT_PATH + "/" + number, null, Token.class);
+    /**
+     * Asynchronous variant of {@link #get(Context, String)}.
+     *
+     * @return future of the token, completed exceptionally with {@link NetLicensingException} in case of a
+     *         service error
+     */
+    public static CompletableFuture<Token> getAsync(final Context context, final String number) {
+        return NetLicensingService.async(() -> NetLicensingService.getInstance().getAsync(context, path(number), null,
+                Token.class));
     }
 
     /**
@@ -61,11 +72,54 @@ public class TokenService {
      *             exceptions will be transformed to the corresponding service response messages.
      */
     public static Page<Token> list(final Context context, final String filter) throws NetLicensingException {
-        final Map<String, String> params = new HashMap<>();
-        if (StringUtils.isNotBlank(filter)) {
-            params.put(Constants.FILTER, filter);
-        }
-        return NetLicensingService.getInstance().list(context, Constants.Token.ENDPOINT_PATH, params, Token.class);
+        return NetLicensingService.getInstance().list(context, Constants.Token.ENDPOINT_PATH,
+                NetLicensingService.filterParams(filter), Token.class);
+    }
+
+    /**
+     * Asynchronous variant of {@link #list(Context, String)}.
+     *
+     * @return future of the token page, completed exceptionally with {@link NetLicensingException} in case
+     *         of a service error
+     */
+    public static CompletableFuture<Page<Token>> listAsync(final Context context, final String filter) {
+        return NetLicensingService.getInstance().listAsync(context, Constants.Token.ENDPOINT_PATH,
+                NetLicensingService.filterParams(filter), Token.class);
+    }
+
+    /**
+     * Streaming variant of {@link #list(Context, String)}: passes the tokens to the consumer one by one while the
+     * response is being read, without holding the whole page in memory. Linked entities are not resolved.
+     *
+     * @param context
+     *            determines the vendor on whose behalf the call is performed
+     * @param filter
+     *            reserved for the future use, must be omitted / set to NULL
+     * @param consumer
+     *            receives the tokens of the page
+     * @return page information; the page content is empty
+     * @throws com.labs64.netlicensing.exception.NetLicensingException
+     *             any subclass of {@linkplain com.labs64.netlicensing.exception.NetLicensingException}. These exceptions will be transformed to the
+     *             corresponding service response messages.
+     */
+    public static Page<Token> list(final Context context, final String filter, final Consumer<Token> consumer)
+            throws NetLicensingException {
+        return NetLicensingService.getInstance().list(context, Constants.Token.ENDPOINT_PATH,
+                NetLicensingService.filterParams(filter), Token.class, consumer);
+    }
+
+    /**
+     * Reactive variant of {@link #list(Context, String)} over all pages: publishes the tokens of all pages, retrieving
+     * the pages as requested by the subscriber.
+     *
+     * @param context
+     *            determines the vendor on whose behalf the call is performed
+     * @param filter
+     *            reserved for the future use, must be omitted / set to NULL
+     * @return publisher of the tokens
+     */
+    public static Flow.Publisher<Token> listPublisher(final Context context, final String filter) {
+        return new PagePublisher<>(filter, pageFilter -> listAsync(context, pageFilter));
     }
 
     /**
@@ -81,9 +135,18 @@ public class TokenService {
      *             exceptions will be transformed to the corresponding service response messages.
      */
     public static Token create(final Context context, final Token token) throws NetLicensingException {
-        CheckUtils.paramNotNull(token, "token");
+        return NetLicensingService.getInstance().post(context, Constants.Token.ENDPOINT_PATH, form(token), Token.class);
+    }
 
-        return NetLicensingService.getInstance().post(context, Constants.Token.ENDPOINT_PATH, ConvertUtils.entityToForm(token), Token.class);
+    /**
+     * Asynchronous variant of {@link #create(Context, Token)}.
+     *
+     * @return future of the newly created token, completed exceptionally with
+     *         {@link NetLicensingException} in case of a service error
+     */
+    public static CompletableFuture<Token> createAsync(final Context context, final Token token) {
+        return NetLicensingService.async(() -> NetLicensingService.getInstance().postAsync(context,
+                Constants.Token.ENDPOINT_PATH, form(token), Token.class));
     }
 
     /**
@@ -98,9 +161,30 @@ public class TokenService {
      *             exceptions will be transformed to the corresponding service response messages.
      */
     public static void delete(final Context context, final String number) throws NetLicensingException {
+        NetLicensingService.getInstance().delete(context, path(number), null);
+    }
+
+    /**
+     * Asynchronous variant of {@link #delete(Context, String)}.
+     *
+     * @return future completed when the token is deleted, or exceptionally with
+     *         {@link NetLicensingException} in case of a service error
+     */
+    public static CompletableFuture<Void> deleteAsync(final Context context, final String number) {
+        return NetLicensingService.async(() -> NetLicensingService.getInstance().deleteAsync(context, path(number),
+                null));
+    }
+
+    // *** request building, shared by the synchronous and asynchronous variants ***
+
+    private static String path(final String number) throws MalformedArgumentsException {
         CheckUtils.paramNotEmpty(number, "number");
+        return Constants.Token.ENDPOINT_PATH + "/" + number;
+    }
 
-        NetLicensingService.getInstance().delete(context, Constants.Token.ENDPOINT_PATH + "/" + number, null);
+    private static Form form(final Token token) throws MalformedArgumentsException {
+        CheckUtils.paramNotNull(token, "token");
+        return ConvertUtils.entityToForm(token);
     }
 
 }
@@ -12,18 +12,20 @@
  */
 package com.labs64.netlicensing.service;
 
-import java.util.HashMap;
-import java.util.Map;
-
-import org.apache.commons.lang3.StringUtils;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
 
 import com.labs64.netlicensing.domain.Constants;
 import com.labs64.netlicensing.domain.entity.Transaction;
 import com.labs64.netlicensing.domain.vo.Context;
 import com.labs64.netlicensing.domain.vo.Page;
+import com.labs64.netlicensing.exception.MalformedArgumentsException;
 import com.labs64.netlicensing.exception.NetLicensingException;
+import com.labs64.netlicensing.provider.Form;
 import com.labs64.netlicensing.util.CheckUtils;
 import com.labs64.netlicensing.util.ConvertUtils;
+import com.labs64.netlicensing.util.PagePublisher;
 
 /**
  * Provides transaction handling routines.
@@ -55,13 +57,21 @@ public class TransactionService {
      *             exceptions will be transformed to the corresponding service response messages.
      */
     public static Transaction create(final Context context, final Transaction transaction) throws NetLicensingException {
-        CheckUtils.paramNotNull(transaction, "transaction");
-
-        return NetLicensingService.getInstance().post(context, Constants.Transaction.ENDPOINT_PATH,
-                ConvertUtils.entityToForm(transaction),
+        return NetLicensingService.getInstance().post(context, Constants.Transaction.ENDPOINT_PATH, form(transaction),
                 Transaction.class);
     }
 
+    /**
+     * Asynchronous variant of {@link #create(Context, Transaction)}.
+     *
+     * @return future of the newly created transaction, completed exceptionally with
+     *         {@link NetLicensingException} in case of a service error
+     */
+    public static CompletableFuture<Transaction> createAsync(final Context context, final Transaction transaction) {
+        return NetLicensingService.async(() -> NetLicensingService.getInstance().postAsync(context,
+                Constants.Transaction.ENDPOINT_PATH, form(transaction), Transaction.class));
+    }
+
     /**
      * Gets transaction by its number.
      * <p>
@@ -78,10 +88,18 @@ public class TransactionService {
      *             exceptions will be transformed to the corresponding service response messages.
      */
     public static Transaction get(final Context context, final String number) throws NetLicensingException {
-        CheckUtils.paramNotEmpty(number, "number");
+        return NetLicensingService.getInstance().get(context, path(number), null, Transaction.class);
+    }
 
-        return NetLicensingService.getInstance().get(context, Constants.Transaction.ENDPOINT_PATH + "/" + number, null,
-                Transaction.class);
+    /**
+     * Asynchronous variant of {@link #get(Context, String)}.
+     *
+     * @return future of the transaction, completed exceptionally with {@link NetLicensingException} in case of a
+     *         service error
+     */
+    public static CompletableFuture<Transaction> getAsync(final Context context, final String number) {
+        return NetLicensingService.async(() -> NetLicensingService.getInstance().getAsync(context, path(number), null,
+                Transaction.class));
     }
 
     /**
@@ -99,12 +117,54 @@ public class TransactionService {
      *             exceptions will be transformed to the corresponding service response messages.
      */
     public static Page<Transaction> list(final Context context, final String filter) throws NetLicensingException {
-        final Map<String, String> params = new HashMap<>();
-        if (StringUtils.isNotBlank(filter)) {
-            params.put(Constants.FILTER, filter);
-        }
-        return NetLicensingService.getInstance().list(context, Constants.Transaction.ENDPOINT_PATH, params,
-                Transaction.class);
+        return NetLicensingService.getInstance().list(context, Constants.Transaction.ENDPOINT_PATH,
+                NetLicensingService.filterParams(filter), Transaction.class);
+    }
+
+    /**
+     * Asynchronous variant of {@link #list(Context, String)}.
+     *
+     * @return future of the transaction page, completed exceptionally with {@link NetLicensingException} in case
+     *         of a service error
+     */
+    public static CompletableFuture<Page<Transaction>> listAsync(final Context context, final String filter) {
+        return NetLicensingService.getInstance().listAsync(context, Constants.Transaction.ENDPOINT_PATH,
+                NetLicensingService.filterParams(filter), Transaction.class);
+    }
+
+    /**
+     * Streaming variant of {@link #list(Context, String)}: passes the transactions to the consumer one by one while the
+     * response is being read, without holding the whole page in memory. Linked entities are not resolved.
+     *
+     * @param context
+     *            determines the vendor on whose behalf the call is performed
+     * @param filter
+     *            reserved for the future use, must be omitted / set to NULL
+     * @param consumer
+     *            receives the transactions of the page
+     * @return page information; the page content is empty
+     * @throws com.labs64.netlicensing.exception.NetLicensingException
+     *             any subclass of {@linkplain com.labs64.netlicensing.exception.NetLicensingException}. These exceptions will be transformed to the
+     *             corresponding service response messages.
+     */
+    public static Page<Transaction> list(final Context context, final String filter,
+            final Consumer<Transaction> consumer) throws NetLicensingException {
+        return NetLicensingService.getInstance().list(context, Constants.Transaction.ENDPOINT_PATH,
+                NetLicensingService.filterParams(filter), Transaction.class, consumer);
+    }
+
+    /**
+     * Reactive variant of {@link #list(Context, String)} over all pages: publishes the transactions of all pages,
+     * retrieving the pages as requested by the subscriber.
+     *
+     * @param context
+     *            determines the vendor on whose behalf the call is performed
+     * @param filter
+     *            reserved for the future use, must be omitted / set to NULL
+     * @return publisher of the transactions
+     */
+    public static Flow.Publisher<Transaction> listPublisher(final Context context, final String filter) {
+        return new PagePublisher<>(filter, pageFilter -> listAsync(context, pageFilter));
     }
 
     /**
@@ -126,11 +186,31 @@ public class TransactionService {
      */
     public static Transaction update(final Context context, final String number, final Transaction transaction)
             throws NetLicensingException {
+        return NetLicensingService.getInstance().post(context, path(number), form(transaction), Transaction.class);
+    }
+
+    /**
+     * Asynchronous variant of {@link #update(Context, String, Transaction)}.
+     *
+     * @return future of the updated transaction, completed exceptionally with {@link NetLicensingException} in
+     *         case of a service error
+     */
+    public static CompletableFuture<Transaction> updateAsync(final Context context, final String number,
+            final Transaction transaction) {
+        return NetLicensingService.async(() -> NetLicensingService.getInstance().postAsync(context, path(number),
+                form(transaction), Transaction.class));
+    }
+
+    // *** request building, shared by the synchronous and asynchronous variants ***
+
+    private static String path(final String number) throws MalformedArgumentsException {
         CheckUtils.paramNotEmpty(number, "number");
-        CheckUtils.paramNotNull(transaction, "transaction");
+        return Constants.Transaction.ENDPOINT_PATH + "/" + number;
+    }
 
-        return NetLicensingService.getInstance().post(context, Constants.Transaction.ENDPOINT_PATH + "/" + number,
-                ConvertUtils.entityToForm(transaction), Transaction.class);
+    private static Form form(final Transaction transaction) throws MalformedArgumentsException {
+        CheckUtils.paramNotNull(transaction, "transaction");
+        return ConvertUtils.entityToForm(transaction);
     }
 
 }
@@ -12,13 +12,11 @@
  */
 package com.labs64.netlicensing.service;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.Transformer;
-import org.apache.commons.lang3.StringUtils;
 
 import com.labs64.netlicensing.domain.Constants;
 import com.labs64.netlicensing.domain.entity.Country;
@@ -47,6 +45,22 @@ public class UtilityService {
     public static Page<String> listLicenseTypes(final Context context) throws NetLicensingException {
         final Page<LicenseTypeProperties> licenseTypes = NetLicensingService.getInstance().list(context,
                 Constants.Utility.ENDPOINT_PATH + "/licenseTypes", null, LicenseTypeProperties.class);
+        return licenseTypeNames(licenseTypes);
+    }
+
+    /**
+     * Asynchronous variant of {@link #listLicenseTypes(Context)}.
+     *
+     * @return future of the license types page, completed exceptionally with {@link NetLicensingException} in case
+     *         of a service error
+     */
+    public static CompletableFuture<Page<String>> listLicenseTypesAsync(final Context context) {
+        return NetLicensingService.getInstance().listAsync(context,
+                Constants.Utility.ENDPOINT_PATH + "/licenseTypes", null, LicenseTypeProperties.class)
+                .thenApply(UtilityService::licenseTypeNames);
+    }
+
+    private static Page<String> licenseTypeNames(final Page<LicenseTypeProperties> licenseTypes) {
         return new PageImpl<String>(
                 (List<String>) CollectionUtils.collect(licenseTypes.getContent(),
                         new Transformer<LicenseTypeProperties, String>() {
@@ -77,6 +91,22 @@ public class UtilityService {
 
         final Page<LicensingModelProperties> licensingModels = NetLicensingService.getInstance().list(context,
                 Constants.Utility.ENDPOINT_PATH + "/licensingModels", null, LicensingModelProperties.class);
+        return licensingModelNames(licensingModels);
+    }
+
+    /**
+     * Asynchronous variant of {@link #listLicensingModels(Context)}.
+     *
+     * @return future of the licensing models page, completed exceptionally with {@link NetLicensingException} in
+     *         case of a service error
+     */
+    public static CompletableFuture<Page<String>> listLicensingModelsAsync(final Context context) {
+        return NetLicensingService.getInstance().listAsync(context,
+                Constants.Utility.ENDPOINT_PATH + "/licensingModels", null, LicensingModelProperties.class)
+                .thenApply(UtilityService::licensingModelNames);
+    }
+
+    private static Page<String> licensingModelNames(final Page<LicensingModelProperties> licensingModels) {
         return new PageImpl<String>(
                 (List<String>) CollectionUtils.collect(licensingModels.getContent(),
                         new Transformer<LicensingModelProperties, String>() {
@@ -106,13 +136,21 @@ public class UtilityService {
      *             exceptions will be transformed to the corresponding service response messages.
      */
     public static Page<Country> listCountries(final Context context, final String filter) throws NetLicensingException {
-        final Map<String, String> params = new HashMap<>();
-        if (StringUtils.isNotBlank(filter)) {
-            params.put(Constants.FILTER, filter);
-        }
         return NetLicensingService.getInstance().list(context,
-                Constants.Utility.ENDPOINT_PATH + "/" + Constants.Country.ENDPOINT_PATH, params,
-                Country.class);
+                Constants.Utility.ENDPOINT_PATH + "/" + Constants.Country.ENDPOINT_PATH,
+                NetLicensingService.filterParams(filter), Country.class);
+    }
+
+    /**
+     * Asynchronous variant of {@link #listCountries(Context, String)}.
+     *
+     * @return future of the countries page, completed exceptionally with {@link NetLicensingException} in case of a
+     *         service error
+     */
+    public static CompletableFuture<Page<Country>> listCountriesAsync(final Context context, final String filter) {
+        return NetLicensingService.getInstance().listAsync(context,
+                Constants.Utility.ENDPOINT_PATH + "/" + Constants.Country.ENDPOINT_PATH,
+                NetLicensingService.filterParams(filter), Country.class);
     }
 
 }
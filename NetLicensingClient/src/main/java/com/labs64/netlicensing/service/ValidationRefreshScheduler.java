@@ -0,0 +1,183 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.labs64.netlicensing.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.labs64.netlicensing.util.ThreadUtils;
+
+/**
+ * Re-validates frequently used results of a {@link ValidationResultCache} shortly before their time to live expires,
+ * so that validations of hot licensees are served from the cache.
+ * <p>
+ * Once per tick the scheduler refreshes the hottest results that have entered their refresh-ahead window. The window
+ * is at most half the lifetime of a result, so results with a short time to live are not refreshed over and over. The
+ * refresh time of each result is spread randomly over the first half of the window, so results cached at the same time
+ * are not refreshed at the same time. The number of refresh requests is limited by a budget of requests per second;
+ * results not refreshed for lack of budget are picked up on later ticks, or fall back to the usual cache behaviour once
+ * expired.
+ * <p>
+ * Only results accessed often enough are refreshed: the access frequency of a result is the number of its accesses,
+ * each counting half as much for every access half-life passed since (see
+ * {@link ValidationResultCache#setAccessHalfLife(Duration)}, default 10 minutes). With the default minimum frequency
+ * of 2, a result validated every few minutes is refreshed, while a result validated once in a while is left to
+ * expire. Several schedulers may refresh the same cache, each with its own settings.
+ *
+ * <pre>
+ * final ValidationResultCache cache = new ValidationResultCache(1000);
+ * context.setObject(ValidationResultCache.class, cache);
+ * final ValidationRefreshScheduler scheduler = new ValidationRefreshScheduler(cache, 5.0).start();
+ * ...
+ * scheduler.close();
+ * </pre>
+ */
+public class ValidationRefreshScheduler implements AutoCloseable {
+
+    private static final long TICK_MILLIS = 1000;
+
+    private static final long DEFAULT_REFRESH_AHEAD_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private final ValidationResultCache cache;
+
+    private final double requestsPerSecond;
+
+    private volatile long refreshAheadMillis = DEFAULT_REFRESH_AHEAD_MILLIS;
+
+    private volatile double minimumFrequency = 2.0;
+
+    private boolean closed;
+
+    /** available request budget, refilled with requestsPerSecond per second up to one second worth of requests */
+    private double budget;
+
+    private long lastTick;
+
+    private final AtomicLong refreshCount = new AtomicLong();
+
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * @param cache
+     *            cache whose results are refreshed
+     * @param requestsPerSecond
+     *            maximum number of refresh requests per second
+     */
+    public ValidationRefreshScheduler(final ValidationResultCache cache, final double requestsPerSecond) {
+        if (requestsPerSecond <= 0) {
+            throw new IllegalArgumentException("Request budget must be positive");
+        }
+        this.cache = cache;
+        this.requestsPerSecond = requestsPerSecond;
+        cache.addRefreshScheduler();
+    }
+
+    /**
+     * @param refreshAhead
+     *            length of the window before the expiry of a result in which it is refreshed (default 5 minutes)
+     * @return this scheduler
+     */
+    public ValidationRefreshScheduler setRefreshAhead(final Duration refreshAhead) {
+        if (refreshAhead.isNegative() || refreshAhead.isZero()) {
+            throw new IllegalArgumentException("Refresh-ahead window must be positive");
+        }
+        this.refreshAheadMillis = refreshAhead.toMillis();
+        return this;
+    }
+
+    /**
+     * @param minimumFrequency
+     *            minimum access frequency for a result to be refreshed (default 2). The frequency is the number of
+     *            accesses, each counting half as much for every access half-life of the cache passed since.
+     * @return this scheduler
+     */
+    public ValidationRefreshScheduler setMinimumFrequency(final double minimumFrequency) {
+        this.minimumFrequency = minimumFrequency;
+        return this;
+    }
+
+    /**
+     * Starts the refresh ticks on a background thread.
+     *
+     * @return this scheduler
+     * @throws IllegalStateException
+     *             if the scheduler is closed
+     */
+    public synchronized ValidationRefreshScheduler start() {
+        if (closed) {
+            throw new IllegalStateException("Refresh scheduler is closed");
+        }
+        if (scheduler == null) {
+            scheduler = ThreadUtils.newScheduler("netlicensing-refresh");
+            scheduler.scheduleWithFixedDelay(this::tick, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+        }
+        return this;
+    }
+
+    /**
+     * Stops the refresh ticks and detaches the scheduler from the cache. Refreshes already started complete in the
+     * background.
+     */
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        if (!closed) {
+            closed = true;
+            cache.removeRefreshScheduler();
+        }
+    }
+
+    /**
+     * @return number of refresh requests started
+     */
+    public long getRefreshCount() {
+        return refreshCount.get();
+    }
+
+    /**
+     * Performs one refresh round.
+     *
+     * @return number of refresh requests started
+     */
+    synchronized int tick() {
+        if (closed) {
+            return 0;
+        }
+        final long now = System.nanoTime();
+        final double elapsedSeconds = (lastTick == 0) ? 1.0 : (now - lastTick) / 1e9;
+        lastTick = now;
+        budget = Math.min(Math.max(requestsPerSecond, 1.0), budget + (elapsedSeconds * requestsPerSecond));
+
+        final List<ValidationResultCache.Entry> candidates = cache.refreshCandidates(refreshAheadMillis,
+                minimumFrequency);
+        int started = 0;
+        for (final ValidationResultCache.Entry candidate : candidates) {
+            if (budget < 1.0) {
+                break;
+            }
+            if (cache.refresh(candidate.key, candidate.refresher)) {
+                budget -= 1.0;
+                started++;
+            }
+        }
+        refreshCount.addAndGet(started);
+        return started;
+    }
+
+}
@@ -0,0 +1,547 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.labs64.netlicensing.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.labs64.netlicensing.domain.vo.Context;
+import com.labs64.netlicensing.domain.vo.SecurityMode;
+import com.labs64.netlicensing.domain.vo.ValidationResult;
+
+/**
+ * In-memory cache of validation results, honouring the time to live of the results as given by the server.
+ * <p>
+ * The cache is opt-in, to use it put an instance into the context:
+ *
+ * <pre>
+ * context.setObject(ValidationResultCache.class, new ValidationResultCache(1000));
+ * </pre>
+ *
+ * Results are cached per base URL, credentials, vendor number and public keys of the context, licensee number and
+ * validation parameters, so contexts created per request with the same settings share the cached results, while a
+ * context verifying signatures never gets a result cached for a context that does not. Only results for which the
+ * server sent a time to live are cached. When the cache is full, the least recently used result is evicted. Each
+ * caller gets its own copy of the cached {@link ValidationResult}, so changes to it do not affect the cache.
+ * <p>
+ * With a grace period set (stale-while-revalidate), a result whose time to live has passed is still returned for the
+ * length of the grace period, while a single background request per key replaces it with a fresh one.
+ */
+public class ValidationResultCache {
+
+    /** largest part of the lifetime of an entry used as refresh window */
+    private static final double MAX_REFRESH_AHEAD_FRACTION = 0.5;
+
+    private static final long DEFAULT_ACCESS_HALF_LIFE_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+    private final int maximumSize;
+
+    private final Clock clock;
+
+    private final LinkedHashMap<Key, Entry> entries;
+
+    private final Map<Key, CompletableFuture<Void>> refreshes = new ConcurrentHashMap<>();
+
+    /** entries with a refresher, ordered by their expiry; filled only while a refresh scheduler is attached */
+    private final PriorityQueue<Entry> refreshQueue = new PriorityQueue<>(
+            Comparator.comparingLong((final Entry entry) -> entry.expiresAt));
+
+    private long gracePeriodMillis;
+
+    private long accessHalfLifeMillis = DEFAULT_ACCESS_HALF_LIFE_MILLIS;
+
+    private int refreshSchedulers;
+
+    private long hits;
+
+    private long staleHits;
+
+    private long misses;
+
+    private long evictions;
+
+    /**
+     * @param maximumSize
+     *            maximum number of cached results
+     */
+    public ValidationResultCache(final int maximumSize) {
+        this(maximumSize, Clock.systemUTC());
+    }
+
+    /**
+     * @param maximumSize
+     *            maximum number of cached results
+     * @param clock
+     *            clock used to check the expiration of the results
+     */
+    public ValidationResultCache(final int maximumSize, final Clock clock) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive");
+        }
+        this.maximumSize = maximumSize;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, Entry> eldest) {
+                if (size() > ValidationResultCache.this.maximumSize) {
+                    evictions++;
+                    eldest.getValue().removed = true;
+                    return true;
+                }
+                return false;
+            }
+
+        };
+    }
+
+    /**
+     * Sets the grace period after the time to live of a result, during which the stale result is still returned and
+     * refreshed in the background.
+     *
+     * @param gracePeriod
+     *            grace period, zero (default) disables stale results
+     * @return this cache
+     */
+    public synchronized ValidationResultCache setGracePeriod(final Duration gracePeriod) {
+        if (gracePeriod.isNegative()) {
+            throw new IllegalArgumentException("Grace period must not be negative");
+        }
+        this.gracePeriodMillis = gracePeriod.toMillis();
+        return this;
+    }
+
+    public synchronized Duration getGracePeriod() {
+        return Duration.ofMillis(gracePeriodMillis);
+    }
+
+    /**
+     * Sets the half-life of the access frequency tracked for the refresh-ahead of a
+     * {@link ValidationRefreshScheduler}: each access counts half as much once the half-life has passed.
+     *
+     * @param accessHalfLife
+     *            half-life of an access (default 10 minutes)
+     * @return this cache
+     */
+    public synchronized ValidationResultCache setAccessHalfLife(final Duration accessHalfLife) {
+        if (accessHalfLife.isNegative() || accessHalfLife.isZero()) {
+            throw new IllegalArgumentException("Access half-life must be positive");
+        }
+        this.accessHalfLifeMillis = accessHalfLife.toMillis();
+        return this;
+    }
+
+    public synchronized Duration getAccessHalfLife() {
+        return Duration.ofMillis(accessHalfLifeMillis);
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public synchronized void invalidateAll() {
+        entries.values().forEach(entry -> entry.removed = true);
+        entries.clear();
+        refreshQueue.clear();
+    }
+
+    /**
+     * Removes the cached results of the licensee, for all validation parameters.
+     *
+     * @param context
+     *            context (or any context with the same base URL and credentials) the results were cached for
+     * @param licenseeNumber
+     *            licensee number
+     */
+    public synchronized void invalidate(final Context context, final String licenseeNumber) {
+        final Key target = new Key(context, licenseeNumber, Collections.emptyMap());
+        entries.values().removeIf(entry -> {
+            entry.removed = entry.key.sameLicensee(target);
+            return entry.removed;
+        });
+    }
+
+    /**
+     * @return number of currently cached results, including expired results not yet removed
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return snapshot of the cache statistics
+     */
+    public synchronized Stats getStats() {
+        return new Stats(hits, staleHits, misses, evictions);
+    }
+
+    static Key key(final Context context, final String licenseeNumber, final Map<String, String> params) {
+        return new Key(context, licenseeNumber, params);
+    }
+
+    /**
+     * @return cached entry, or null if not cached or expired beyond the grace period
+     */
+    synchronized Entry get(final Key key) {
+        final Entry entry = entries.get(key);
+        if (entry != null) {
+            final long now = clock.millis();
+            if (entry.expiresAt > now) {
+                hits++;
+                entry.recordAccess(now, accessHalfLifeMillis);
+                return entry;
+            }
+            if (entry.expiresAt + gracePeriodMillis > now) {
+                staleHits++;
+                entry.recordAccess(now, accessHalfLifeMillis);
+                return entry;
+            }
+            entry.removed = true;
+            entries.remove(key);
+        }
+        misses++;
+        return null;
+    }
+
+    /**
+     * @return true if the time to live of the entry has passed
+     */
+    boolean isStale(final Entry entry) {
+        return entry.expiresAt <= clock.millis();
+    }
+
+    /**
+     * Caches the result until its time to live (plus grace period) expires. Results without a time to live sent by
+     * the server must not be cached and are ignored, as are results already expired.
+     *
+     * @param serverTtl
+     *            true if the response carried a time to live, false if the result only has the client default
+     */
+    synchronized void put(final Key key, final ValidationResult result, final String responseId,
+            final boolean serverTtl, final Supplier<? extends CompletableFuture<?>> refresher) {
+        if (!serverTtl || (result == null) || (result.getTtl() == null)) {
+            return;
+        }
+        final long now = clock.millis();
+        final long expiresAt = result.getTtl().getTimeInMillis();
+        if (expiresAt + gracePeriodMillis > now) {
+            // the cache keeps its own copy, the caller may modify the result it got
+            final Entry entry = new Entry(key, new ValidationResult(result), responseId, now, expiresAt, refresher);
+            final Entry previous = entries.put(key, entry);
+            if (previous != null) {
+                // a refreshed result stays as hot as the one it replaces
+                previous.removed = true;
+                entry.frequency = previous.frequency;
+                entry.lastAccess = previous.lastAccess;
+            } else {
+                // the request that fetched the result is its first access
+                entry.frequency = 1;
+            }
+            if ((refreshSchedulers > 0) && (refresher != null)) {
+                refreshQueue.add(entry);
+            }
+        }
+    }
+
+    /**
+     * Registers a refresh scheduler; while at least one is registered, the entries with a refresher are tracked for
+     * {@link #refreshCandidates}.
+     */
+    synchronized void addRefreshScheduler() {
+        if (refreshSchedulers++ == 0) {
+            for (final Entry entry : entries.values()) {
+                if (entry.refresher != null) {
+                    refreshQueue.add(entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * Unregisters a refresh scheduler; the refresh-ahead bookkeeping stops with the last one.
+     */
+    synchronized void removeRefreshScheduler() {
+        if (--refreshSchedulers == 0) {
+            refreshQueue.clear();
+        }
+    }
+
+    /**
+     * The refresh window is at most half the lifetime of the entry, so an entry is never due right after it was
+     * stored: a result with a short time to live is refreshed once per half its lifetime at most. The refresh time is
+     * spread randomly over the first half of the window.
+     */
+    private static long refreshTime(final Entry entry, final long refreshAheadMillis) {
+        final long lifetime = entry.expiresAt - entry.storedAt;
+        final double fraction = Math.min((double) refreshAheadMillis / lifetime, MAX_REFRESH_AHEAD_FRACTION);
+        return entry.storedAt + (long) (lifetime * (1.0 - fraction + (entry.jitter * fraction / 2)));
+    }
+
+    /**
+     * Starts a refresh of the key unless one is already in progress. The refresher is expected to {@link #put} the
+     * new result; if it fails, the stale result is kept until the grace period ends.
+     *
+     * @param key
+     *            key to refresh
+     * @param refresher
+     *            starts the refresh request
+     * @return true if the refresh was started, false if one was already in progress
+     */
+    boolean refresh(final Key key, final Supplier<? extends CompletableFuture<?>> refresher) {
+        final CompletableFuture<Void> refresh = new CompletableFuture<>();
+        if (refreshes.putIfAbsent(key, refresh) != null) {
+            return false;
+        }
+        CompletableFuture<?> request;
+        try {
+            request = refresher.get();
+        } catch (final RuntimeException e) {
+            request = CompletableFuture.failedFuture(e);
+        }
+        request.whenComplete((result, e) -> {
+            refreshes.remove(key, refresh);
+            refresh.complete(null);
+        });
+        return true;
+    }
+
+    /**
+     * Returns the entries due for a refresh ahead of their expiry, hottest first. Entries stay queued until they are
+     * replaced by the refreshed result, removed or expired, so entries not refreshed for lack of budget are returned
+     * again on the next call. Only the entries expiring within the refresh-ahead window are looked at, as no other
+     * entry can be due.
+     *
+     * @param refreshAheadMillis
+     *            length of the window before expiry in which entries are refreshed
+     * @param minimumFrequency
+     *            minimum access frequency of an entry to be refreshed
+     * @return entries to refresh
+     */
+    synchronized List<Entry> refreshCandidates(final long refreshAheadMillis, final double minimumFrequency) {
+        final long now = clock.millis();
+        final List<Entry> window = new ArrayList<>();
+        while (!refreshQueue.isEmpty() && (refreshQueue.peek().expiresAt <= now + refreshAheadMillis)) {
+            final Entry entry = refreshQueue.poll();
+            if (!entry.removed && (entry.expiresAt > now)) {
+                window.add(entry);
+            }
+        }
+        refreshQueue.addAll(window);
+
+        final List<Entry> candidates = new ArrayList<>();
+        for (final Entry entry : window) {
+            if ((refreshTime(entry, refreshAheadMillis) <= now)
+                    && (entry.frequencyAt(now, accessHalfLifeMillis) >= minimumFrequency)
+                    && !refreshes.containsKey(entry.key)) {
+                candidates.add(entry);
+            }
+        }
+        candidates.sort((a, b) -> Double.compare(b.frequency, a.frequency));
+        return candidates;
+    }
+
+    /**
+     * Cache statistics.
+     */
+    public static final class Stats {
+
+        private final long hitCount;
+
+        private final long staleHitCount;
+
+        private final long missCount;
+
+        private final long evictionCount;
+
+        Stats(final long hitCount, final long staleHitCount, final long missCount, final long evictionCount) {
+            this.hitCount = hitCount;
+            this.staleHitCount = staleHitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+        }
+
+        /**
+         * @return number of lookups served with a result within its time to live
+         */
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        /**
+         * @return number of lookups served with a stale result within the grace period
+         */
+        public long getStaleHitCount() {
+            return staleHitCount;
+        }
+
+        public long getMissCount() {
+            return missCount;
+        }
+
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        /**
+         * @return ratio of the lookups served from the cache, 1.0 if there were no lookups yet
+         */
+        public double getHitRate() {
+            final long requests = hitCount + staleHitCount + missCount;
+            return (requests == 0) ? 1.0 : (double) (hitCount + staleHitCount) / requests;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats [hits=" + hitCount + ", staleHits=" + staleHitCount + ", misses=" + missCount
+                    + ", evictions=" + evictionCount + "]";
+        }
+
+    }
+
+    static final class Entry {
+
+        final Key key;
+
+        final ValidationResult result;
+
+        final String responseId;
+
+        final long storedAt;
+
+        final long expiresAt;
+
+        final Supplier<? extends CompletableFuture<?>> refresher;
+
+        /** random fraction used to spread the refreshes of the entries */
+        final double jitter = ThreadLocalRandom.current().nextDouble();
+
+        /** true once the entry is no longer cached, its queued refresh is then dropped */
+        boolean removed;
+
+        /** access count halving with every access half-life, as of lastAccess */
+        double frequency;
+
+        long lastAccess;
+
+        Entry(final Key key, final ValidationResult result, final String responseId, final long storedAt,
+                final long expiresAt, final Supplier<? extends CompletableFuture<?>> refresher) {
+            this.key = key;
+            this.result = result;
+            this.responseId = responseId;
+            this.storedAt = storedAt;
+            this.expiresAt = expiresAt;
+            this.refresher = refresher;
+            this.lastAccess = storedAt;
+        }
+
+        void recordAccess(final long now, final long halfLifeMillis) {
+            frequency = frequencyAt(now, halfLifeMillis) + 1;
+        }
+
+        double frequencyAt(final long now, final long halfLifeMillis) {
+            if (now > lastAccess) {
+                frequency *= Math.pow(0.5, (now - lastAccess) / (double) halfLifeMillis);
+                lastAccess = now;
+            }
+            return frequency;
+        }
+
+    }
+
+    /**
+     * Key of a cached result. The context is captured by its base URL and credentials instead of by identity, so that
+     * equally configured contexts share the cached results and the cache holds no reference to the context.
+     */
+    static final class Key {
+
+        private final String baseUrl;
+
+        private final SecurityMode securityMode;
+
+        private final String username;
+
+        private final String password;
+
+        private final String apiKey;
+
+        private final String vendorNumber;
+
+        /** results verified with different keys are not interchangeable */
+        private final List<String> publicKeys;
+
+        private final String licenseeNumber;
+
+        /** validation parameters in canonical (sorted) order */
+        private final Map<String, String> params;
+
+        private final int hash;
+
+        private Key(final Context context, final String licenseeNumber, final Map<String, String> params) {
+            this.baseUrl = context.getBaseUrl();
+            this.securityMode = context.getSecurityMode();
+            this.username = context.getUsername();
+            this.password = context.getPassword();
+            this.apiKey = context.getApiKey();
+            this.vendorNumber = context.getVendorNumber();
+            this.publicKeys = context.getPublicKeys();
+            this.licenseeNumber = licenseeNumber;
+            this.params = new TreeMap<>(params);
+            this.hash = Objects.hash(baseUrl, securityMode, username, apiKey, vendorNumber, publicKeys,
+                    licenseeNumber, this.params);
+        }
+
+        /**
+         * @return true if both keys belong to the same licensee of the same context, regardless of the parameters
+         */
+        boolean sameLicensee(final Key other) {
+            return Objects.equals(baseUrl, other.baseUrl) && (securityMode == other.securityMode)
+                    && Objects.equals(username, other.username) && Objects.equals(password, other.password)
+                    && Objects.equals(apiKey, other.apiKey) && Objects.equals(vendorNumber, other.vendorNumber)
+                    && publicKeys.equals(other.publicKeys) && licenseeNumber.equals(other.licenseeNumber);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return (hash == other.hash) && sameLicensee(other) && params.equals(other.params);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+    }
+
+}
@@ -13,8 +13,16 @@
 
 package com.labs64.netlicensing.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
 
 import com.labs64.netlicensing.provider.HttpMethod;
 import com.labs64.netlicensing.provider.Form;
@@ -26,7 +34,9 @@ import com.labs64.netlicensing.domain.vo.Context;
 import com.labs64.netlicensing.domain.vo.MetaInfo;
 import com.labs64.netlicensing.domain.vo.ValidationParameters;
 import com.labs64.netlicensing.domain.vo.ValidationResult;
+import com.labs64.netlicensing.exception.MalformedArgumentsException;
 import com.labs64.netlicensing.exception.NetLicensingException;
+import com.labs64.netlicensing.exception.RestException;
 import com.labs64.netlicensing.schema.context.Netlicensing;
 import com.labs64.netlicensing.util.CheckUtils;
 import com.labs64.netlicensing.util.SignatureUtils;
@@ -54,7 +64,114 @@ public class ValidationService {
      */
     public static ValidationResult validate(final Context context, final String number,
             final ValidationParameters validationParameters, final MetaInfo... meta) throws NetLicensingException {
-        return convertValidationResult(retrieveValidationFile(context, number, validationParameters), meta);
+        final ValidationResultCache cache = cacheOf(context);
+        if (cache == null) {
+            return convertValidationResult(retrieveValidationFile(context, number, validationParameters), meta);
+        }
+
+        CheckUtils.paramNotEmpty(number, "number");
+        final Form form = convertValidationParameters(validationParameters);
+        final ValidationResultCache.Key key = ValidationResultCache.key(context, number, form.getParams());
+        final ValidationResultCache.Entry cached = cache.get(key);
+        if (cached != null) {
+            return fromCache(context, number, form, cache, key, cached, meta);
+        }
+        final Netlicensing validationFile = retrieveValidationFile(context, number, form);
+        final ValidationResult result = convertValidationResult(validationFile, meta);
+        if (validationFile != null) {
+            cache.put(key, result, validationFile.getId(), validationFile.getTtl() != null,
+                    () -> validateAndCache(context, number, form, cache, key));
+        }
+        return result;
+    }
+
+    /**
+     * Asynchronous variant of {@link #validate(Context, String, ValidationParameters, MetaInfo...)}, built on the
+     * non-blocking HTTP client API. Unmarshalling, signature check and conversion of the response run on the executor
+     * given by {@link com.labs64.netlicensing.provider.RestProvider.Configuration}.
+     *
+     * @return future of the validation result, completed exceptionally with {@link NetLicensingException} in case
+     *         of a service error
+     */
+    public static CompletableFuture<ValidationResult> validateAsync(final Context context, final String number,
+            final ValidationParameters validationParameters, final MetaInfo... meta) {
+        final ValidationResultCache cache = cacheOf(context);
+        if ((cache == null) || StringUtils.isEmpty(number)) {
+            return retrieveValidationFileAsync(context, number, validationParameters)
+                    .thenApply(NetLicensingService.unchecked(validationFile -> convertValidationResult(validationFile,
+                            meta)));
+        }
+
+        final Form form = convertValidationParameters(validationParameters);
+        final ValidationResultCache.Key key = ValidationResultCache.key(context, number, form.getParams());
+        final ValidationResultCache.Entry cached = cache.get(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(fromCache(context, number, form, cache, key, cached, meta));
+        }
+        return validateAndCache(context, number, form, cache, key, meta);
+    }
+
+    /**
+     * Validates the licensees in parallel, with at most <code>parallelism</code> validations in flight at a time. The
+     * validations share the connection pool of the HTTP client and honour the {@link ValidationResultCache} and
+     * {@link RequestCoalescer} of the context. A failed validation does not stop the others.
+     *
+     * @param context
+     *            determines the vendor on whose behalf the call is performed
+     * @param licenseeNumbers
+     *            licensee numbers; duplicates are validated once
+     * @param validationParameters
+     *            optional validation parameters, used for all licensees. See ValidationParameters and licensing model
+     *            documentation for details.
+     * @param parallelism
+     *            maximum number of validations in flight
+     * @return results and errors per licensee, with throughput and latency of the run
+     * @throws NetLicensingException
+     *             if the parameters are invalid or the calling thread is interrupted
+     */
+    public static BulkValidationResult validateAll(final Context context, final Collection<String> licenseeNumbers,
+            final ValidationParameters validationParameters, final int parallelism) throws NetLicensingException {
+        CheckUtils.paramNotNull(context, "context");
+        CheckUtils.paramNotNull(licenseeNumbers, "licenseeNumbers");
+        if (parallelism <= 0) {
+            throw new MalformedArgumentsException("Parameter 'parallelism' must be positive");
+        }
+
+        final List<String> numbers = new ArrayList<>(new LinkedHashSet<>(licenseeNumbers));
+        final Object[] outcomes = new Object[numbers.size()];
+        final long[] latencies = new long[numbers.size()];
+        final Semaphore inFlight = new Semaphore(parallelism);
+        final long start = System.nanoTime();
+        try {
+            for (int i = 0; i < numbers.size(); i++) {
+                inFlight.acquire();
+                final int index = i;
+                final long requestStart = System.nanoTime();
+                validateAsync(context, numbers.get(i), validationParameters).whenComplete((result, e) -> {
+                    latencies[index] = System.nanoTime() - requestStart;
+                    outcomes[index] = (e != null) ? e : result;
+                    inFlight.release();
+                });
+            }
+            // wait for the validations in flight
+            inFlight.acquire(parallelism);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RestException("Bulk validation interrupted", e);
+        }
+        final long duration = System.nanoTime() - start;
+
+        // the semaphore makes the writes of the callbacks visible here
+        final Map<String, ValidationResult> results = new LinkedHashMap<>();
+        final Map<String, NetLicensingException> errors = new LinkedHashMap<>();
+        for (int i = 0; i < numbers.size(); i++) {
+            if (outcomes[i] instanceof Throwable) {
+                errors.put(numbers.get(i), toNetLicensingException((Throwable) outcomes[i]));
+            } else {
+                results.put(numbers.get(i), (ValidationResult) outcomes[i]);
+            }
+        }
+        return new BulkValidationResult(results, errors, duration, latencies);
     }
 
     /**
@@ -76,11 +193,28 @@ public class ValidationService {
     public static Netlicensing retrieveValidationFile(final Context context, final String number,
             final ValidationParameters validationParameters) throws NetLicensingException {
         CheckUtils.paramNotEmpty(number, "number");
-        final Form form = convertValidationParameters(validationParameters);
-        final NetLicensingService service = NetLicensingService.getInstance();
-        return service.request(context, HttpMethod.POST,
-                Constants.Licensee.ENDPOINT_PATH + "/" + number + "/" + Constants.Licensee.ENDPOINT_PATH_VALIDATE, form,
-                null);
+        return retrieveValidationFile(context, number, convertValidationParameters(validationParameters));
+    }
+
+    private static Netlicensing retrieveValidationFile(final Context context, final String number, final Form form)
+            throws NetLicensingException {
+        return NetLicensingService.getInstance().request(context, HttpMethod.POST, validatePath(number), form, null);
+    }
+
+    /**
+     * Asynchronous variant of {@link #retrieveValidationFile(Context, String, ValidationParameters)}.
+     *
+     * @return future of the validation file, completed exceptionally with {@link NetLicensingException} in case of a
+     *         service error
+     */
+    public static CompletableFuture<Netlicensing> retrieveValidationFileAsync(final Context context,
+            final String number, final ValidationParameters validationParameters) {
+        return NetLicensingService.async(() -> {
+            CheckUtils.paramNotEmpty(number, "number");
+            final Form form = convertValidationParameters(validationParameters);
+            return NetLicensingService.getInstance().requestAsync(context, HttpMethod.POST, validatePath(number),
+                    form, null);
+        });
     }
 
     /**
@@ -101,6 +235,58 @@ public class ValidationService {
         return convertValidationResult(validationFile, meta);
     }
 
+    private static NetLicensingException toNetLicensingException(final Throwable e) {
+        final Throwable cause = ((e instanceof CompletionException) && (e.getCause() != null)) ? e.getCause() : e;
+        if (cause instanceof NetLicensingException) {
+            return (NetLicensingException) cause;
+        }
+        return new RestException("Validation failed: " + cause.getMessage(), cause);
+    }
+
+    private static String validatePath(final String number) {
+        return Constants.Licensee.ENDPOINT_PATH + "/" + number + "/" + Constants.Licensee.ENDPOINT_PATH_VALIDATE;
+    }
+
+    private static ValidationResultCache cacheOf(final Context context) {
+        if ((context != null) && context.containsKey(ValidationResultCache.class)) {
+            final Object cache = context.getObject(ValidationResultCache.class);
+            if (cache instanceof ValidationResultCache) {
+                return (ValidationResultCache) cache;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns a copy of the cached result, starting a background refresh if it is stale.
+     */
+    private static ValidationResult fromCache(final Context context, final String number, final Form form,
+            final ValidationResultCache cache, final ValidationResultCache.Key key,
+            final ValidationResultCache.Entry cached, final MetaInfo... meta) {
+        if (cache.isStale(cached)) {
+            cache.refresh(key, () -> validateAndCache(context, number, form, cache, key));
+        }
+        if ((meta != null) && (meta.length > 0) && (meta[0] != null) && (cached.responseId != null)) {
+            meta[0].setValue(Constants.PROP_ID, cached.responseId);
+        }
+        return new ValidationResult(cached.result);
+    }
+
+    private static CompletableFuture<ValidationResult> validateAndCache(final Context context, final String number,
+            final Form form, final ValidationResultCache cache, final ValidationResultCache.Key key,
+            final MetaInfo... meta) {
+        return NetLicensingService.getInstance().requestAsync(context, HttpMethod.POST, validatePath(number), form,
+                null)
+                .thenApply(NetLicensingService.unchecked(validationFile -> {
+                    final ValidationResult result = convertValidationResult(validationFile, meta);
+                    if (validationFile != null) {
+                        cache.put(key, result, validationFile.getId(), validationFile.getTtl() != null,
+                                () -> validateAndCache(context, number, form, cache, key));
+                    }
+                    return result;
+                }));
+    }
+
     private static Form convertValidationParameters(final ValidationParameters validationParameters) {
         final Form form = new Form();
         if (validationParameters != null) {
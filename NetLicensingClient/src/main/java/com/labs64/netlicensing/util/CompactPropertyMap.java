@@ -0,0 +1,266 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.labs64.netlicensing.util;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Map of properties, e.g. the custom properties of an entity, stored as two arrays of keys and values sorted by key.
+ * <p>
+ * Entities and validation results usually carry only a handful of properties, which a binary search over a sorted
+ * array finds in a few comparisons. Unlike a {@link java.util.HashMap}, the map allocates no entry object per property
+ * and no hash table. Insertion and removal shift the arrays, which is fine for the small sizes this map is meant for.
+ * The null key is supported and sorts first. Iteration is in key order.
+ *
+ * @param <V>
+ *            type of the property values
+ */
+public final class CompactPropertyMap<V> extends AbstractMap<String, V> implements Serializable {
+
+    private static final long serialVersionUID = 4950379541925564315L;
+
+    private static final String[] EMPTY_KEYS = new String[0];
+
+    private static final Object[] EMPTY_VALUES = new Object[0];
+
+    private String[] keys = EMPTY_KEYS;
+
+    private Object[] values = EMPTY_VALUES;
+
+    private int size;
+
+    private transient int modCount;
+
+    private transient Set<Map.Entry<String, V>> entrySet;
+
+    public CompactPropertyMap() {
+    }
+
+    /**
+     * @param expectedSize
+     *            number of properties the map is going to hold
+     */
+    public CompactPropertyMap(final int expectedSize) {
+        if (expectedSize > 0) {
+            keys = new String[expectedSize];
+            values = new Object[expectedSize];
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return (key == null || key instanceof String) && indexOf((String) key) >= 0;
+    }
+
+    @Override
+    public V get(final Object key) {
+        if (key != null && !(key instanceof String)) {
+            return null;
+        }
+        final int index = indexOf((String) key);
+        return (index >= 0) ? valueAt(index) : null;
+    }
+
+    @Override
+    public V put(final String key, final V value) {
+        int index = indexOf(key);
+        if (index >= 0) {
+            final V previous = valueAt(index);
+            values[index] = value;
+            return previous;
+        }
+        index = -(index + 1);
+        if (size == keys.length) {
+            final int capacity = (size == 0) ? 4 : size + (size >> 1) + 1;
+            keys = Arrays.copyOf(keys, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(values, index, values, index + 1, size - index);
+        keys[index] = key;
+        values[index] = value;
+        size++;
+        modCount++;
+        return null;
+    }
+
+    @Override
+    public V remove(final Object key) {
+        if (key != null && !(key instanceof String)) {
+            return null;
+        }
+        final int index = indexOf((String) key);
+        if (index < 0) {
+            return null;
+        }
+        final V previous = valueAt(index);
+        removeAt(index);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        keys = EMPTY_KEYS;
+        values = EMPTY_VALUES;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public Set<Map.Entry<String, V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(final int index) {
+        return (V) values[index];
+    }
+
+    private void removeAt(final int index) {
+        final int moved = size - index - 1;
+        System.arraycopy(keys, index + 1, keys, index, moved);
+        System.arraycopy(values, index + 1, values, index, moved);
+        size--;
+        keys[size] = null;
+        values[size] = null;
+        modCount++;
+    }
+
+    /**
+     * @return index of the key, or <code>-(insertion point) - 1</code> if not present
+     */
+    private int indexOf(final String key) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int cmp = compare(keys[mid], key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static int compare(final String a, final String b) {
+        if (a == b) {
+            return 0;
+        } else if (a == null) {
+            return -1;
+        } else if (b == null) {
+            return 1;
+        }
+        return a.compareTo(b);
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<String, V>> {
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            CompactPropertyMap.this.clear();
+        }
+
+        @Override
+        public Iterator<Map.Entry<String, V>> iterator() {
+            return new Iterator<Map.Entry<String, V>>() {
+
+                private int next = 0;
+
+                private int last = -1;
+
+                private int expectedModCount = modCount;
+
+                @Override
+                public boolean hasNext() {
+                    return next < size;
+                }
+
+                @Override
+                public Map.Entry<String, V> next() {
+                    if (modCount != expectedModCount) {
+                        throw new ConcurrentModificationException();
+                    }
+                    if (next >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    last = next++;
+                    return new Entry(last);
+                }
+
+                @Override
+                public void remove() {
+                    if (last < 0) {
+                        throw new IllegalStateException();
+                    }
+                    if (modCount != expectedModCount) {
+                        throw new ConcurrentModificationException();
+                    }
+                    removeAt(last);
+                    next = last;
+                    last = -1;
+                    expectedModCount = modCount;
+                }
+
+            };
+        }
+
+    }
+
+    /**
+     * Entry backed by the map, valid as long as the map is not structurally modified.
+     */
+    private final class Entry extends AbstractMap.SimpleEntry<String, V> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int index;
+
+        private Entry(final int index) {
+            super(keys[index], valueAt(index));
+            this.index = index;
+        }
+
+        @Override
+        public V setValue(final V value) {
+            values[index] = value;
+            return super.setValue(value);
+        }
+
+    }
+
+}
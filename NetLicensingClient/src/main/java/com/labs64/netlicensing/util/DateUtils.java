@@ -12,26 +12,240 @@
  */
 package com.labs64.netlicensing.util;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.chrono.IsoChronology;
 import java.util.Calendar;
 import java.util.TimeZone;
 
+import javax.xml.datatype.DatatypeConstants;
+import javax.xml.datatype.XMLGregorianCalendar;
+
 import jakarta.xml.bind.DatatypeConverter;
 
+/**
+ * Parsing and printing of the <code>xsd:dateTime</code> values used by NetLicensing.
+ * <p>
+ * The format sent by the server, e.g. <code>2014-07-07T21:30:46.658Z</code>, is handled without intermediate objects;
+ * other lexical forms of <code>xsd:dateTime</code> are delegated to {@link DatatypeConverter}. Dates are always
+ * printed in UTC.
+ */
 public class DateUtils {
 
+    private static final int SECONDS_PER_DAY = 24 * 60 * 60;
+
+    /** first full year of the Gregorian calendar; earlier dates differ between java.time and Calendar */
+    private static final int MIN_FAST_YEAR = 1583;
+
+    private static final int MAX_FAST_YEAR = 9999;
+
     public static Calendar getCurrentDate() {
         return Calendar.getInstance(TimeZone.getTimeZone("UTC"));
     }
 
     public static Calendar parseDate(final String dateTime) {
-        Calendar dateTimeCl = DatatypeConverter.parseDateTime(dateTime);
-        dateTimeCl.setTimeZone(TimeZone.getTimeZone("UTC"));
-        return dateTimeCl;
+        return toCalendar(parseInstant(dateTime));
     }
 
+    /**
+     * Prints the date in UTC. The given calendar is not modified.
+     *
+     * @param date
+     *            date to be printed
+     * @return <code>xsd:dateTime</code> representation of the date
+     */
     public static String printDate(final Calendar date) {
-        date.setTimeZone(TimeZone.getTimeZone("UTC"));
-        return DatatypeConverter.printDateTime(date);
+        return printInstant(date.toInstant());
+    }
+
+    /**
+     * @param dateTime
+     *            <code>xsd:dateTime</code> value
+     * @return parsed instant
+     * @throws IllegalArgumentException
+     *             if the value is not a valid <code>xsd:dateTime</code>
+     */
+    public static Instant parseInstant(final String dateTime) {
+        final Instant instant = parseServerFormat(dateTime);
+        return (instant != null) ? instant : DatatypeConverter.parseDateTime(dateTime).toInstant();
+    }
+
+    /**
+     * @param instant
+     *            instant to be printed
+     * @return <code>xsd:dateTime</code> representation of the instant in UTC, with milliseconds if not zero
+     */
+    public static String printInstant(final Instant instant) {
+        final LocalDateTime dateTime = LocalDateTime.ofEpochSecond(instant.getEpochSecond(), instant.getNano(),
+                ZoneOffset.UTC);
+        if ((dateTime.getYear() < MIN_FAST_YEAR) || (dateTime.getYear() > MAX_FAST_YEAR)) {
+            return DatatypeConverter.printDateTime(toCalendar(instant));
+        }
+        final StringBuilder sb = new StringBuilder(24);
+        appendPadded(sb, dateTime.getYear(), 4).append('-');
+        appendPadded(sb, dateTime.getMonthValue(), 2).append('-');
+        appendPadded(sb, dateTime.getDayOfMonth(), 2).append('T');
+        appendPadded(sb, dateTime.getHour(), 2).append(':');
+        appendPadded(sb, dateTime.getMinute(), 2).append(':');
+        appendPadded(sb, dateTime.getSecond(), 2);
+        final int millis = dateTime.getNano() / 1_000_000;
+        if (millis != 0) {
+            appendPadded(sb.append('.'), millis, 3);
+        }
+        return sb.append('Z').toString();
+    }
+
+    /**
+     * Converts a date already parsed by the unmarshaller, computing the instant from its fields instead of going
+     * through a {@link java.util.GregorianCalendar}.
+     *
+     * @param dateTime
+     *            <code>xsd:dateTime</code> value; a value without time zone is taken as UTC
+     * @return instant of the value, with millisecond precision
+     */
+    public static Instant toInstant(final XMLGregorianCalendar dateTime) {
+        final int year = dateTime.getYear();
+        final int month = dateTime.getMonth();
+        final int day = dateTime.getDay();
+        final int hour = dateTime.getHour();
+        final int minute = dateTime.getMinute();
+        final int second = dateTime.getSecond();
+        if ((dateTime.getEon() != null) || (year < MIN_FAST_YEAR) || (year > MAX_FAST_YEAR)
+                || (month == DatatypeConstants.FIELD_UNDEFINED) || (day == DatatypeConstants.FIELD_UNDEFINED)
+                || (hour == DatatypeConstants.FIELD_UNDEFINED) || (minute == DatatypeConstants.FIELD_UNDEFINED)
+                || (second == DatatypeConstants.FIELD_UNDEFINED)) {
+            return dateTime.toGregorianCalendar(TimeZone.getTimeZone("UTC"), null, null).toInstant();
+        }
+        final int millis = dateTime.getMillisecond();
+        final int offsetMinutes = dateTime.getTimezone();
+        final long epochSecond = epochDay(year, month, day) * SECONDS_PER_DAY + hour * 3600 + minute * 60 + second
+                - ((offsetMinutes == DatatypeConstants.FIELD_UNDEFINED) ? 0 : offsetMinutes * 60);
+        return Instant.ofEpochMilli(epochSecond * 1000
+                + ((millis == DatatypeConstants.FIELD_UNDEFINED) ? 0 : millis));
+    }
+
+    /**
+     * @param instant
+     *            instant
+     * @return calendar in UTC set to the instant, with millisecond precision
+     */
+    public static Calendar toCalendar(final Instant instant) {
+        final Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        calendar.setTimeInMillis(instant.toEpochMilli());
+        return calendar;
+    }
+
+    /**
+     * Parses <code>yyyy-MM-ddTHH:mm:ss[.fraction](Z|+hh:mm|-hh:mm)</code>.
+     *
+     * @return parsed instant, or null if the value is not in this format or outside of the supported range
+     */
+    private static Instant parseServerFormat(final String value) {
+        final int length = value.length();
+        if ((length < 20) || (value.charAt(4) != '-') || (value.charAt(7) != '-') || (value.charAt(10) != 'T')
+                || (value.charAt(13) != ':') || (value.charAt(16) != ':')) {
+            return null;
+        }
+        final int year = digits(value, 0, 4);
+        final int month = digits(value, 5, 2);
+        final int day = digits(value, 8, 2);
+        final int hour = digits(value, 11, 2);
+        final int minute = digits(value, 14, 2);
+        final int second = digits(value, 17, 2);
+        if ((year < MIN_FAST_YEAR) || (month < 1) || (month > 12) || (day < 1) || (day > lengthOfMonth(year, month))
+                || (hour < 0) || (hour > 23) || (minute < 0) || (minute > 59) || (second < 0) || (second > 59)) {
+            return null;
+        }
+
+        int pos = 19;
+        int nanos = 0;
+        if (value.charAt(pos) == '.') {
+            final int start = ++pos;
+            while ((pos < length) && (value.charAt(pos) >= '0') && (value.charAt(pos) <= '9')) {
+                if (pos - start < 9) {
+                    nanos = nanos * 10 + (value.charAt(pos) - '0');
+                }
+                pos++;
+            }
+            if (pos == start) {
+                return null;
+            }
+            for (int i = pos - start; i < 9; i++) {
+                nanos *= 10;
+            }
+        }
+
+        final int offsetSeconds;
+        if ((pos == length - 1) && (value.charAt(pos) == 'Z')) {
+            offsetSeconds = 0;
+        } else if ((pos == length - 6) && ((value.charAt(pos) == '+') || (value.charAt(pos) == '-'))
+                && (value.charAt(pos + 3) == ':')) {
+            final int offsetHours = digits(value, pos + 1, 2);
+            final int offsetMinutes = digits(value, pos + 4, 2);
+            if ((offsetHours < 0) || (offsetHours > 14) || (offsetMinutes < 0) || (offsetMinutes > 59)) {
+                return null;
+            }
+            final int offset = offsetHours * 3600 + offsetMinutes * 60;
+            offsetSeconds = (value.charAt(pos) == '-') ? -offset : offset;
+        } else {
+            return null;
+        }
+
+        final long epochSecond = epochDay(year, month, day) * SECONDS_PER_DAY + hour * 3600 + minute * 60 + second
+                - offsetSeconds;
+        return Instant.ofEpochSecond(epochSecond, nanos);
+    }
+
+    /**
+     * @return value of the decimal digits at the given position, or -1 if there is a non-digit character
+     */
+    private static int digits(final String value, final int start, final int count) {
+        int result = 0;
+        for (int i = start; i < start + count; i++) {
+            final char c = value.charAt(i);
+            if ((c < '0') || (c > '9')) {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
+    private static int lengthOfMonth(final int year, final int month) {
+        switch (month) {
+        case 2:
+            return IsoChronology.INSTANCE.isLeapYear(year) ? 29 : 28;
+        case 4:
+        case 6:
+        case 9:
+        case 11:
+            return 30;
+        default:
+            return 31;
+        }
+    }
+
+    /**
+     * Days since 1970-01-01 of a date in the proleptic Gregorian calendar.
+     */
+    private static long epochDay(final int year, final int month, final int day) {
+        // years starting in March, so that the leap day is the last day of the year
+        final long y = (month <= 2) ? year - 1 : year;
+        final long era = Math.floorDiv(y, 400);
+        final long yearOfEra = y - era * 400;
+        final long dayOfYear = (153 * (month + ((month > 2) ? -3 : 9)) + 2) / 5 + day - 1;
+        final long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    private static StringBuilder appendPadded(final StringBuilder sb, final int value, final int width) {
+        for (int limit = 10, i = 1; i < width; i++, limit *= 10) {
+            if (value < limit) {
+                sb.append('0');
+            }
+        }
+        return sb.append(value);
     }
 
 }
@@ -14,45 +14,191 @@ package com.labs64.netlicensing.util;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBElement;
 import jakarta.xml.bind.JAXBException;
 import jakarta.xml.bind.Marshaller;
 import jakarta.xml.bind.Unmarshaller;
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.stream.StreamSource;
 
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+import org.xml.sax.SAXException;
+
 /**
+ * JAXB helpers.
+ * <p>
+ * {@link JAXBContext} instances are created once per class and shared. Unmarshallers and marshallers are not
+ * thread-safe, so a bounded number of idle instances is kept per class and handed out to one caller at a time.
  */
 public final class JAXBUtils {
 
+    private static final int MAX_POOLED = 32;
+
+    private static final Map<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+
+    private static final Map<Class<?>, BlockingQueue<Unmarshaller>> unmarshallers = new ConcurrentHashMap<>();
+
+    private static final Map<Class<?>, BlockingQueue<Marshaller>> marshallers = new ConcurrentHashMap<>();
+
+    private static final DocumentBuilderFactory documentBuilderFactory = createDocumentBuilderFactory();
+
+    private JAXBUtils() {
+    }
+
     public static <T> T readObject(final String resource, final Class<T> expectedType) throws JAXBException {
         return readObjectFromInputStream(JAXBUtils.class.getClassLoader().getResourceAsStream(resource), expectedType);
     }
 
     public static <T> T readObjectFromString(final String content, final Class<T> expectedType) throws JAXBException {
-        return readObjectFromInputStream(new ByteArrayInputStream(content.getBytes()), expectedType);
+        return readObjectFromBytes(content.getBytes(StandardCharsets.UTF_8), expectedType);
+    }
+
+    public static <T> T readObjectFromBytes(final byte[] content, final Class<T> expectedType) throws JAXBException {
+        return readObjectFromInputStream(new ByteArrayInputStream(content), expectedType);
+    }
+
+    public static <T> T readObjectFromNode(final Node node, final Class<T> expectedType) throws JAXBException {
+        final Unmarshaller unmarshaller = acquireUnmarshaller(expectedType);
+        try {
+            return unmarshaller.unmarshal(node, expectedType).getValue();
+        } finally {
+            release(unmarshallers, expectedType, unmarshaller);
+        }
+    }
+
+    /**
+     * Parses the content into a namespace aware DOM document. Document type declarations are rejected.
+     *
+     * @param content
+     *            XML document
+     * @return parsed document
+     * @throws SAXException
+     *             if the content is not a well-formed XML document
+     */
+    public static Document readDocumentFromBytes(final byte[] content) throws SAXException {
+        try {
+            final DocumentBuilder documentBuilder;
+            synchronized (documentBuilderFactory) {
+                documentBuilder = documentBuilderFactory.newDocumentBuilder();
+            }
+            return documentBuilder.parse(new ByteArrayInputStream(content));
+        } catch (final ParserConfigurationException | IOException e) {
+            throw new SAXException(e);
+        }
     }
 
     public static <T> T readObjectFromInputStream(final InputStream inputStream, final Class<T> expectedType) throws JAXBException {
-        final JAXBContext jaxbContext = JAXBContext.newInstance(expectedType);
-        final Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-        final JAXBElement<T> element = unmarshaller.unmarshal(new StreamSource(inputStream), expectedType);
-        return element.getValue();
+        final Unmarshaller unmarshaller = acquireUnmarshaller(expectedType);
+        try {
+            final JAXBElement<T> element = unmarshaller.unmarshal(new StreamSource(inputStream), expectedType);
+            return element.getValue();
+        } finally {
+            release(unmarshallers, expectedType, unmarshaller);
+        }
     }
 
     public static <T> String xmlEntityToString(final T entity) {
         try {
-            final JAXBContext jaxbContext = JAXBContext.newInstance(entity.getClass());
-            final Marshaller marshaller = jaxbContext.createMarshaller();
-            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
             final ByteArrayOutputStream out = new ByteArrayOutputStream();
-            marshaller.marshal(entity, out);
+            final Marshaller marshaller = acquireMarshaller(entity.getClass());
+            try {
+                marshaller.marshal(entity, out);
+            } finally {
+                release(marshallers, entity.getClass(), marshaller);
+            }
             return out.toString();
         } catch (final JAXBException e) {
             throw new RuntimeException("Cannot convert object to string.", e);
         }
     }
 
+    /**
+     * Marshals the entity (formatted) into the given DOM node.
+     *
+     * @param entity
+     *            entity to marshal
+     * @param node
+     *            target node, e.g. an empty {@link org.w3c.dom.Document}
+     * @throws JAXBException
+     *             if the entity cannot be marshalled
+     */
+    public static <T> void writeObjectToNode(final T entity, final Node node) throws JAXBException {
+        final Marshaller marshaller = acquireMarshaller(entity.getClass());
+        try {
+            marshaller.marshal(entity, node);
+        } finally {
+            release(marshallers, entity.getClass(), marshaller);
+        }
+    }
+
+    /**
+     * Returns the shared {@link JAXBContext} for the given class, creating it on first use.
+     *
+     * @param type
+     *            JAXB bound class
+     * @return shared context
+     * @throws JAXBException
+     *             if the context cannot be created
+     */
+    public static JAXBContext getContext(final Class<?> type) throws JAXBException {
+        JAXBContext context = contexts.get(type);
+        if (context == null) {
+            context = JAXBContext.newInstance(type);
+            final JAXBContext existing = contexts.putIfAbsent(type, context);
+            if (existing != null) {
+                context = existing;
+            }
+        }
+        return context;
+    }
+
+    private static Unmarshaller acquireUnmarshaller(final Class<?> type) throws JAXBException {
+        final Unmarshaller unmarshaller = pool(unmarshallers, type).poll();
+        return (unmarshaller != null) ? unmarshaller : getContext(type).createUnmarshaller();
+    }
+
+    private static Marshaller acquireMarshaller(final Class<?> type) throws JAXBException {
+        Marshaller marshaller = pool(marshallers, type).poll();
+        if (marshaller == null) {
+            marshaller = getContext(type).createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+        }
+        return marshaller;
+    }
+
+    private static <P> void release(final Map<Class<?>, BlockingQueue<P>> pools, final Class<?> type,
+            final P instance) {
+        // dropped if the pool is already full
+        pool(pools, type).offer(instance);
+    }
+
+    private static <P> BlockingQueue<P> pool(final Map<Class<?>, BlockingQueue<P>> pools, final Class<?> type) {
+        return pools.computeIfAbsent(type, key -> new ArrayBlockingQueue<>(MAX_POOLED));
+    }
+
+    private static DocumentBuilderFactory createDocumentBuilderFactory() {
+        final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        try {
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+        } catch (final ParserConfigurationException e) {
+            throw new IllegalStateException(e);
+        }
+        return factory;
+    }
+
 }
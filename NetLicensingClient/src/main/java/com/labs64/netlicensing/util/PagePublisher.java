@@ -0,0 +1,186 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.labs64.netlicensing.util;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import com.labs64.netlicensing.domain.vo.Page;
+
+/**
+ * {@link Flow.Publisher} of all entities of a paged list operation.
+ * <p>
+ * Pages are requested driven by the demand of the subscriber: a page is only retrieved when the entities of the
+ * previous page have been delivered and the subscriber has requested more. At most one page is held per
+ * subscription. Each subscription walks the pages anew, starting with the first page.
+ * <p>
+ * A failure to retrieve a page is signalled by <code>onError</code> with the
+ * {@link com.labs64.netlicensing.exception.NetLicensingException} of the list operation.
+ *
+ * @param <T>
+ *            entity type
+ */
+public class PagePublisher<T> implements Flow.Publisher<T> {
+
+    private final String filter;
+
+    private final Function<String, ? extends CompletableFuture<? extends Page<T>>> listAsync;
+
+    /**
+     * @param filter
+     *            filter of the list operation, without page; may be null
+     * @param listAsync
+     *            asynchronous list operation, called with the filter including the page number
+     */
+    public PagePublisher(final String filter,
+            final Function<String, ? extends CompletableFuture<? extends Page<T>>> listAsync) {
+        this.filter = filter;
+        this.listAsync = listAsync;
+    }
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super T> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("subscriber");
+        }
+        subscriber.onSubscribe(new PageSubscription(subscriber));
+    }
+
+    private final class PageSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super T> subscriber;
+
+        private final AtomicLong demand = new AtomicLong();
+
+        /** serializes the signals to the subscriber, counts the drain requests not yet handled */
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private volatile boolean cancelled;
+
+        private volatile CompletableFuture<? extends Page<T>> inFlight;
+
+        private volatile Page<T> received;
+
+        private volatile Throwable error;
+
+        // accessed by the draining thread only
+
+        private Iterator<T> buffer = Collections.emptyIterator();
+
+        private int nextPage = 0;
+
+        private boolean lastPage = false;
+
+        private PageSubscription(final Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(final long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("Requested number of entities must be positive, was " + n);
+            } else {
+                demand.getAndUpdate(current -> (current + n < 0) ? Long.MAX_VALUE : current + n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            final CompletableFuture<? extends Page<T>> page = inFlight;
+            if (page != null) {
+                page.cancel(false);
+            }
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (emit()) {
+                    return;
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        /**
+         * Emits as many entities as requested and available, and starts the retrieval of the next page if needed.
+         *
+         * @return true if the subscription has terminated
+         */
+        private boolean emit() {
+            while (!cancelled) {
+                if (error != null) {
+                    cancel();
+                    subscriber.onError(error);
+                    return true;
+                }
+                final Page<T> page = received;
+                if (page != null) {
+                    received = null;
+                    inFlight = null;
+                    buffer = (page.getContent() != null) ? page.getContent().iterator() : Collections.emptyIterator();
+                    lastPage = !page.hasNext();
+                }
+                if (buffer.hasNext()) {
+                    if (demand.get() == 0) {
+                        return false;
+                    }
+                    demand.getAndUpdate(current -> (current == Long.MAX_VALUE) ? current : current - 1);
+                    subscriber.onNext(buffer.next());
+                } else if (inFlight != null) {
+                    return false; // waiting for the page
+                } else if (lastPage) {
+                    cancelled = true;
+                    subscriber.onComplete();
+                    return true;
+                } else if (demand.get() == 0) {
+                    return false;
+                } else {
+                    fetch();
+                }
+            }
+            return true;
+        }
+
+        private void fetch() {
+            CompletableFuture<? extends Page<T>> page;
+            try {
+                page = listAsync.apply(ServiceHelper.pageFilter(nextPage++, filter));
+            } catch (final RuntimeException e) {
+                page = CompletableFuture.failedFuture(e);
+            }
+            inFlight = page;
+            page.whenComplete((result, e) -> {
+                if (e != null) {
+                    error = ((e instanceof CompletionException) && (e.getCause() != null)) ? e.getCause() : e;
+                } else {
+                    received = result;
+                }
+                drain();
+            });
+        }
+
+    }
+
+}
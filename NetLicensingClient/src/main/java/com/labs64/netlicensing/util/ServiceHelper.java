@@ -3,10 +3,19 @@ package com.labs64.netlicensing.util;
 //import java.util.AbstractMap;
 //import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 //import java.util.Map;
 //import java.util.stream.Collectors;
-//import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -34,7 +43,9 @@ import com.labs64.netlicensing.domain.entity.impl.TransactionImpl;
 import com.labs64.netlicensing.domain.vo.Context;
 import com.labs64.netlicensing.domain.vo.Page;
 import com.labs64.netlicensing.exception.ConversionException;
+import com.labs64.netlicensing.exception.MalformedArgumentsException;
 import com.labs64.netlicensing.exception.NetLicensingException;
+import com.labs64.netlicensing.exception.RestException;
 import com.labs64.netlicensing.service.LicenseService;
 import com.labs64.netlicensing.service.LicenseTemplateService;
 import com.labs64.netlicensing.service.LicenseeService;
@@ -50,6 +61,8 @@ public class ServiceHelper {
     private static String PAGE = "page";
     private static String FILTER_DELIMITER = ";";
     private static String FILTER_PAIR_DELIMITER = "=";
+    /** upper bound for presizing the result list from the reported total number of items */
+    private static final int MAX_PRESIZE = 100_000;
 
     /*
     // @formatter:off
@@ -157,60 +170,106 @@ public class ServiceHelper {
     }
     */
 
+    /**
+     * @return filter of a list operation for the given page
+     */
+    static String pageFilter(final int page, final String filter) {
+        String pageAndFilter = PAGE + FILTER_PAIR_DELIMITER + String.valueOf(page);
+        if (StringUtils.isNotBlank(filter)) {
+            pageAndFilter += FILTER_DELIMITER + filter;
+        }
+        return pageAndFilter;
+    }
+
     public static class PageGetDispatchNoReflection {
         final Context context;
         final String filter;
 
-        private int page = 0;
-        private boolean hasNext = false;
+        private volatile int page = 0;
+        private volatile boolean hasNext = false;
 
         public PageGetDispatchNoReflection(final Context context, final String filter) {
             this.context = context;
             this.filter = filter;
         }
 
+        /**
+         * @deprecated pages are requested by number, the page set here is not used by {@link ServiceHelper}
+         */
+        @Deprecated
         public void setPage(final int page) {
             this.page = page;
         }
 
+        /**
+         * @return true if the page retrieved last has a next page
+         * @deprecated with pages retrieved concurrently, use {@link Page#hasNext()} of the page instead
+         */
+        @Deprecated
         public boolean hasNext() {
             return hasNext;
         }
 
-        private String getFilter() {
-            String pageAndFilter = PAGE + FILTER_PAIR_DELIMITER + String.valueOf(page);
-            if (StringUtils.isNotBlank(filter)) {
-                pageAndFilter += FILTER_DELIMITER + filter;
-            }
-            return pageAndFilter;
+        private String getFilter(final int page) {
+            return pageFilter(page, filter);
         }
 
-        private <T> List<T> processPageResult(final Page<T> pageResult) {
+        private <P extends Page<? extends BaseEntity>> P processPageResult(final P pageResult) {
             hasNext = pageResult.hasNext();
-            return pageResult.getContent();
+            return pageResult;
         }
 
-        private List<? extends BaseEntity> visit(final Class<?> entityClass) throws NetLicensingException {
+        /**
+         * Retrieves the given page. The page number is passed per call, so pages may be retrieved concurrently.
+         */
+        private Page<? extends BaseEntity> getPage(final Class<?> entityClass, final int page)
+                throws NetLicensingException {
             if (entityClass == Product.class)
-                return processPageResult(ProductService.list(context, getFilter()));
+                return processPageResult(ProductService.list(context, getFilter(page)));
             else if (entityClass == ProductModule.class)
-                return processPageResult(ProductModuleService.list(context, getFilter()));
+                return processPageResult(ProductModuleService.list(context, getFilter(page)));
             else if (entityClass == LicenseTemplate.class)
-                return processPageResult(LicenseTemplateService.list(context, getFilter()));
+                return processPageResult(LicenseTemplateService.list(context, getFilter(page)));
             else if (entityClass == Licensee.class)
-                return processPageResult(LicenseeService.list(context, getFilter()));
+                return processPageResult(LicenseeService.list(context, getFilter(page)));
             else if (entityClass == License.class)
-                return processPageResult(LicenseService.list(context, getFilter()));
+                return processPageResult(LicenseService.list(context, getFilter(page)));
             else if (entityClass == Transaction.class)
-                return processPageResult(TransactionService.list(context, getFilter()));
+                return processPageResult(TransactionService.list(context, getFilter(page)));
             else if (entityClass == Token.class)
-                return processPageResult(TokenService.list(context, getFilter()));
+                return processPageResult(TokenService.list(context, getFilter(page)));
             else if (entityClass == PaymentMethod.class)
-                return processPageResult(PaymentMethodService.list(context, getFilter()));
+                return processPageResult(PaymentMethodService.list(context, getFilter(page)));
             else if (entityClass == Country.class)
-                return processPageResult(UtilityService.listCountries(context, getFilter()));
+                return processPageResult(UtilityService.listCountries(context, getFilter(page)));
             throw new ConversionException("Provided type is not applicable");
         }
+
+        /**
+         * Asynchronous variant of {@link #getPage(Class, int)}.
+         */
+        private CompletableFuture<? extends Page<? extends BaseEntity>> getPageAsync(final Class<?> entityClass,
+                final int page) {
+            if (entityClass == Product.class)
+                return ProductService.listAsync(context, getFilter(page));
+            else if (entityClass == ProductModule.class)
+                return ProductModuleService.listAsync(context, getFilter(page));
+            else if (entityClass == LicenseTemplate.class)
+                return LicenseTemplateService.listAsync(context, getFilter(page));
+            else if (entityClass == Licensee.class)
+                return LicenseeService.listAsync(context, getFilter(page));
+            else if (entityClass == License.class)
+                return LicenseService.listAsync(context, getFilter(page));
+            else if (entityClass == Transaction.class)
+                return TransactionService.listAsync(context, getFilter(page));
+            else if (entityClass == Token.class)
+                return TokenService.listAsync(context, getFilter(page));
+            else if (entityClass == PaymentMethod.class)
+                return PaymentMethodService.listAsync(context, getFilter(page));
+            else if (entityClass == Country.class)
+                return UtilityService.listCountriesAsync(context, getFilter(page));
+            return CompletableFuture.failedFuture(new ConversionException("Provided type is not applicable"));
+        }
     }
 
     /**
@@ -229,33 +288,192 @@ public class ServiceHelper {
      */
     public static <T> List<T> listAll(final Context context, final String filter, final Class<T> entityClass)
             throws NetLicensingException {
-        //final Visitable dispatching = getVisitableByType(entityClass);
-        //final PageGetDispatch<T> dispatcher = new PageGetDispatch<>(context, filter);
+        return listAll(context, filter, entityClass, 1);
+    }
 
+    /**
+     * Returns all entities of specified type, automatically retrieving all pages. After the first page, which tells
+     * the total number of pages, the remaining pages are retrieved concurrently.
+     *
+     * @param <T>
+     *            derived automatically from entityClass
+     * @param context
+     *            determines the vendor on whose behalf the call is performed
+     * @param filter
+     *            reserved for the future use, must be omitted / set to NULL
+     * @param entityClass
+     *            class of requested NetLicensing Entity type, e.g. License.class
+     * @param parallelism
+     *            maximum number of pages retrieved at the same time; 1 retrieves the pages one after another
+     * @return The list of all entities of the specified type, in page order
+     * @throws NetLicensingException
+     */
+    public static <T> List<T> listAll(final Context context, final String filter, final Class<T> entityClass,
+            final int parallelism) throws NetLicensingException {
+        if (parallelism <= 0) {
+            throw new MalformedArgumentsException("Parameter 'parallelism' must be positive");
+        }
         final PageGetDispatchNoReflection dispatcher = new PageGetDispatchNoReflection(context, filter);
 
-        final List<T> list = new ArrayList<>();
-        int page = 0;
         try {
-            do {
-                dispatcher.setPage(page);
-                @SuppressWarnings("unchecked")
-                List<T> data = (List<T>) dispatcher.visit(entityClass);
-                if (data != null) {
-                    list.addAll(data);
-                }
-                //dispatching.accept(dispatcher);
-                //if (dispatcher.getData() != null) {
-                //    list.addAll(dispatcher.getData());
-                //}
+            final Page<? extends BaseEntity> firstPage = dispatcher.getPage(entityClass, 0);
+            final List<T> list = new ArrayList<>((int) Math.min(Math.max(firstPage.getTotalItems(), 0),
+                    MAX_PRESIZE));
+            addContent(list, firstPage);
+
+            int page = 1;
+            boolean hasNext = firstPage.hasNext();
+            if (hasNext && (parallelism > 1) && (firstPage.getTotalPages() > 1)) {
+                final Page<? extends BaseEntity> lastPage = getPagesConcurrently(dispatcher, entityClass,
+                        firstPage.getTotalPages(), parallelism, list);
+                page = firstPage.getTotalPages();
+                hasNext = lastPage.hasNext();
+            }
+            // serially, or for pages added since the first page was retrieved
+            while (hasNext) {
+                final Page<? extends BaseEntity> pageResult = dispatcher.getPage(entityClass, page);
+                addContent(list, pageResult);
+                hasNext = pageResult.hasNext();
                 ++page;
-            } while (dispatcher.hasNext());
+            }
+            return list;
         } catch (final NetLicensingException e2) {
             throw e2;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RestException("Collecting entities interrupted", e);
         } catch (final Exception e3) {
             throw new ConversionException("Collecting entities failed", e3);
         }
+    }
+
+    /**
+     * Retrieves the pages 1 to totalPages - 1 with at most parallelism requests in flight and adds their content to
+     * the list in page order.
+     *
+     * @return the last retrieved page
+     */
+    private static <T> Page<? extends BaseEntity> getPagesConcurrently(final PageGetDispatchNoReflection dispatcher,
+            final Class<T> entityClass, final int totalPages, final int parallelism, final List<T> list)
+            throws NetLicensingException, InterruptedException {
+        final List<CompletableFuture<? extends Page<? extends BaseEntity>>> pages = new ArrayList<>(totalPages - 1);
+        final Semaphore inFlight = new Semaphore(parallelism);
+        try {
+            for (int page = 1; page < totalPages; page++) {
+                inFlight.acquire();
+                final CompletableFuture<? extends Page<? extends BaseEntity>> pageResult = dispatcher
+                        .getPageAsync(entityClass, page);
+                pageResult.whenComplete((result, e) -> inFlight.release());
+                pages.add(pageResult);
+                if (pageResult.isCompletedExceptionally()) {
+                    break;
+                }
+            }
+
+            Page<? extends BaseEntity> pageResult = null;
+            for (final CompletableFuture<? extends Page<? extends BaseEntity>> future : pages) {
+                pageResult = future.join();
+                addContent(list, pageResult);
+            }
+            return pageResult;
+        } catch (final CompletionException e) {
+            pages.forEach(future -> future.cancel(false));
+            if (e.getCause() instanceof NetLicensingException) {
+                throw (NetLicensingException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns all entities of specified type as a lazily evaluated stream. Pages are retrieved as the stream is
+     * consumed; while the entities of one page are consumed, the next page is retrieved in the background.
+     * <p>
+     * A failure to retrieve a page is thrown by the consuming operation as {@link CompletionException} with the
+     * {@link NetLicensingException} as cause. Closing the stream cancels the retrieval of the next page.
+     *
+     * @param <T>
+     *            derived automatically from entityClass
+     * @param context
+     *            determines the vendor on whose behalf the call is performed
+     * @param filter
+     *            reserved for the future use, must be omitted / set to NULL
+     * @param entityClass
+     *            class of requested NetLicensing Entity type, e.g. License.class
+     * @return stream of all entities of the specified type, in page order
+     */
+    public static <T> Stream<T> stream(final Context context, final String filter, final Class<T> entityClass) {
+        final PageIterator<T> iterator = new PageIterator<>(new PageGetDispatchNoReflection(context, filter),
+                entityClass);
+        return StreamSupport
+                .stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                        false)
+                .onClose(iterator::close);
+    }
+
+    /**
+     * Iterates the entities page by page, prefetching the next page.
+     */
+    private static class PageIterator<T> implements Iterator<T> {
+        private final PageGetDispatchNoReflection dispatcher;
+        private final Class<T> entityClass;
+
+        private Iterator<T> current = Collections.emptyIterator();
+        private CompletableFuture<? extends Page<? extends BaseEntity>> next;
+        private int page = 0;
+        private boolean started = false;
+
+        PageIterator(final PageGetDispatchNoReflection dispatcher, final Class<T> entityClass) {
+            this.dispatcher = dispatcher;
+            this.entityClass = entityClass;
+        }
 
-        return list;
+        @Override
+        public boolean hasNext() {
+            if (!started) {
+                started = true;
+                next = dispatcher.getPageAsync(entityClass, page++);
+            }
+            while (!current.hasNext()) {
+                if (next == null) {
+                    return false;
+                }
+                final Page<? extends BaseEntity> pageResult = next.join();
+                next = pageResult.hasNext() ? dispatcher.getPageAsync(entityClass, page++) : null;
+                if (pageResult.getContent() != null) {
+                    // T is same as the page entity type by dispatcher design
+                    @SuppressWarnings("unchecked")
+                    final List<T> data = (List<T>) pageResult.getContent();
+                    current = data.iterator();
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+
+        void close() {
+            started = true;
+            if (next != null) {
+                next.cancel(false);
+                next = null;
+            }
+            current = Collections.emptyIterator();
+        }
+    }
+
+    private static <T> void addContent(final List<T> list, final Page<? extends BaseEntity> pageResult) {
+        if (pageResult.getContent() != null) {
+            // T is same as the page entity type by dispatcher design
+            @SuppressWarnings("unchecked")
+            final List<T> data = (List<T>) pageResult.getContent();
+            list.addAll(data);
+        }
     }
 }
@@ -7,15 +7,16 @@ import java.security.SignatureException;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.X509EncodedKeySpec;
 import java.util.Base64;
+import java.util.List;
+import java.util.Map;
 
-import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBException;
-import jakarta.xml.bind.Marshaller;
 import javax.xml.crypto.dsig.XMLSignatureException;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 
+import org.apache.commons.collections4.map.LRUMap;
 import org.apache.commons.lang3.StringUtils;
 import org.w3c.dom.Document;
 
@@ -27,6 +28,11 @@ import com.labs64.netlicensing.schema.context.Netlicensing;
 
 public class SignatureUtils {
 
+    private static final int PUBLIC_KEY_CACHE_SIZE = 16;
+
+    /** Parsed public keys by their PEM (or Base64) representation */
+    private static final Map<String, PublicKey> publicKeyCache = new LRUMap<>(PUBLIC_KEY_CACHE_SIZE);
+
     /**
      * Cleanse public key; replace CRLF and strip key headers
      * @param publicKey
@@ -36,7 +42,7 @@ public class SignatureUtils {
         if (publicKey == null) {
             return publicKey;
         } else {
-            return publicKey.replaceAll("\\n|\\r", "").replace("-----BEGIN PUBLIC KEY-----", "")
+            return StringUtils.replaceChars(publicKey, "\n\r", null).replace("-----BEGIN PUBLIC KEY-----", "")
                     .replace("-----END PUBLIC KEY-----", "");
         }
     }
@@ -68,6 +74,28 @@ public class SignatureUtils {
         return readPublicKey(publicKey.getBytes());
     }
 
+    /**
+     * Returns the parsed public key, reusing keys parsed before. A bounded number of recently used keys is kept.
+     * @param publicKey public key in PEM format or Base64 encoded
+     * @return parsed public key
+     * @throws NoSuchAlgorithmException
+     * @throws InvalidKeySpecException
+     */
+    public static PublicKey getPublicKey(final String publicKey)
+            throws NoSuchAlgorithmException, InvalidKeySpecException {
+        synchronized (publicKeyCache) {
+            final PublicKey cached = publicKeyCache.get(publicKey);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        final PublicKey parsed = readPublicKey(cleansePublicKey(publicKey));
+        synchronized (publicKeyCache) {
+            publicKeyCache.put(publicKey, parsed);
+        }
+        return parsed;
+    }
+
     /**
      * Verify response signature.
      * @param context
@@ -75,17 +103,51 @@ public class SignatureUtils {
      * @throws BadSignatureException
      */
     public static void check(final Context context, final Netlicensing response) throws BadSignatureException {
-        if (StringUtils.isNotEmpty(context.getPublicKey())) {
+        if (!context.getPublicKeys().isEmpty()) {
+            final Document doc;
             try {
-                check(response, cleansePublicKey(context.getPublicKey()).getBytes());
+                doc = toDocument(response);
             } catch (final Exception e) {
                 throw new BadSignatureException(e.getMessage());
             }
+            check(context.getPublicKeys(), doc);
         }
     }
 
     /**
-     * Verify response signature.
+     * Verify signature of the response document as parsed from the received bytes.
+     * @param context
+     * @param response
+     * @throws BadSignatureException
+     */
+    public static void check(final Context context, final Document response) throws BadSignatureException {
+        if (!context.getPublicKeys().isEmpty()) {
+            check(context.getPublicKeys(), response);
+        }
+    }
+
+    /**
+     * Verify response signature against the given keys, succeeds if any of the keys matches.
+     * @param publicKeys
+     * @param response
+     * @throws BadSignatureException
+     */
+    private static void check(final List<String> publicKeys, final Document response) throws BadSignatureException {
+        Exception failure = null;
+        for (final String publicKey : publicKeys) {
+            try {
+                check(response, getPublicKey(publicKey));
+                return;
+            } catch (final Exception e) {
+                failure = e;
+            }
+        }
+        throw new BadSignatureException(failure.getMessage());
+    }
+
+    /**
+     * Verify response signature. The response is marshalled to a DOM document first; prefer
+     * {@link #check(Document, byte[])} if the original response document is available.
      * @param response
      * @param publicKeyByteArray
      * @throws JAXBException
@@ -94,35 +156,59 @@ public class SignatureUtils {
      */
     public static void check(final Netlicensing response, final byte[] publicKeyByteArray)
             throws JAXBException, ParserConfigurationException, SignatureException {
+        check(toDocument(response), publicKeyByteArray);
+    }
 
-        final JAXBContext jc = JAXBContext.newInstance(Netlicensing.class);
-
-        // Create the Document
-        final DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-        dbf.setNamespaceAware(true);
-        final DocumentBuilder db = dbf.newDocumentBuilder();
-        final Document doc = db.newDocument();
-        doc.setXmlStandalone(true);
-
-        // Marshal the NetLicensing to a Document
-        final Marshaller marshaller = jc.createMarshaller();
-        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
-        marshaller.marshal(response, doc);
+    /**
+     * Verify signature of the response document.
+     * @param response
+     * @param publicKeyByteArray
+     * @throws SignatureException
+     */
+    public static void check(final Document response, final byte[] publicKeyByteArray) throws SignatureException {
+        final PublicKey publicKey;
+        try {
+            publicKey = readPublicKey(publicKeyByteArray);
+        } catch (final IllegalArgumentException e) {
+            throw new SignatureException("Bad or empty response signature", e);
+        } catch (final NoSuchAlgorithmException | InvalidKeySpecException e) {
+            throw new SignatureException("Bad response signature", e);
+        }
+        check(response, publicKey);
+    }
 
+    /**
+     * Verify signature of the response document.
+     * @param response
+     * @param publicKey
+     * @throws SignatureException
+     */
+    public static void check(final Document response, final PublicKey publicKey) throws SignatureException {
         boolean isValidAssetsFile = false;
         try {
-            final PublicKey publicKey = readPublicKey(publicKeyByteArray);
-
-            final XMLDSigValidationResult validation = XMLDSigValidatorCustom.validateSignature(doc, publicKey);
+            final XMLDSigValidationResult validation = XMLDSigValidatorCustom.validateSignature(response, publicKey);
             isValidAssetsFile = validation.isValid();
         } catch (final IllegalArgumentException | XMLSignatureException e) {
             throw new SignatureException("Bad or empty response signature", e);
-        } catch (final NoSuchAlgorithmException | InvalidKeySpecException e) {
-            throw new SignatureException("Bad response signature", e);
         }
         if (!isValidAssetsFile) {
             throw new SignatureException("Response signature verification failure");
         }
     }
 
+    /**
+     * Marshal the response to a DOM document.
+     */
+    private static Document toDocument(final Netlicensing response) throws JAXBException, ParserConfigurationException {
+        final DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
+        dbf.setNamespaceAware(true);
+        final DocumentBuilder db = dbf.newDocumentBuilder();
+        final Document doc = db.newDocument();
+        doc.setXmlStandalone(true);
+
+        // Marshal the NetLicensing to a Document
+        JAXBUtils.writeObjectToNode(response, doc);
+        return doc;
+    }
+
 }
@@ -0,0 +1,106 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.labs64.netlicensing.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Common utilities for creating the executors used by the library.
+ * <p>
+ * Virtual threads are looked up at runtime, so the library keeps running on Java 11 and switches to virtual threads
+ * only where the running JVM provides them (Java 21+).
+ */
+public final class ThreadUtils {
+
+    private static final MethodHandle NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = lookupVirtualThreadPerTaskExecutor();
+
+    private static final AtomicInteger poolNumber = new AtomicInteger(1);
+
+    private ThreadUtils() {
+    }
+
+    /**
+     * @return true if the running JVM supports virtual threads
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * Creates an executor for blocking tasks.
+     *
+     * @param name
+     *            name used as prefix for the names of the platform threads
+     * @param virtualThreads
+     *            true to run each task on a new virtual thread, if supported by the running JVM; otherwise a cached
+     *            pool of daemon platform threads is used
+     * @return new executor, to be shut down by the caller
+     */
+    public static ExecutorService newExecutor(final String name, final boolean virtualThreads) {
+        if (virtualThreads && isVirtualThreadsSupported()) {
+            try {
+                return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invokeExact();
+            } catch (final Throwable e) {
+                // fall back to platform threads
+            }
+        }
+        return Executors.newCachedThreadPool(new DaemonThreadFactory(name));
+    }
+
+    /**
+     * Creates a single-threaded scheduler running on a daemon platform thread.
+     *
+     * @param name
+     *            name used as prefix for the thread name
+     * @return new scheduler, to be shut down by the caller
+     */
+    public static ScheduledExecutorService newScheduler(final String name) {
+        return Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory(name));
+    }
+
+    private static MethodHandle lookupVirtualThreadPerTaskExecutor() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class));
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static final class DaemonThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        private final String namePrefix;
+
+        private DaemonThreadFactory(final String name) {
+            namePrefix = name + "-" + poolNumber.getAndIncrement() + "-";
+        }
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, namePrefix + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+
+    }
+
+}
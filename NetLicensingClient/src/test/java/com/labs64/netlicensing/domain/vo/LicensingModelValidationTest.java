@@ -0,0 +1,110 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.labs64.netlicensing.domain.vo;
+
+import org.junit.jupiter.api.Test;
+
+import com.labs64.netlicensing.domain.Constants;
+import com.labs64.netlicensing.util.DateUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link LicensingModelValidation}.
+ */
+public class LicensingModelValidationTest {
+
+    @Test
+    public void testTryAndBuy() {
+        final Composition validation = validation(Constants.LicensingModel.TryAndBuy.NAME);
+        validation.put(Constants.LicensingModel.VALID, "true");
+        validation.put(Constants.LicensingModel.TryAndBuy.EVALUATION, "true");
+        validation.put(Constants.LicensingModel.TryAndBuy.EVALUATION_EXPIRES, "2030-01-01T00:00:00Z");
+
+        final LicensingModelValidation.TryAndBuy tryAndBuy = assertInstanceOf(LicensingModelValidation.TryAndBuy.class,
+                LicensingModelValidation.of(validation));
+        assertTrue(tryAndBuy.isValid());
+        assertTrue(tryAndBuy.isEvaluation());
+        assertEquals(DateUtils.parseDate("2030-01-01T00:00:00Z"), tryAndBuy.getEvaluationExpires());
+    }
+
+    @Test
+    public void testSubscription() {
+        final Composition validation = validation(Constants.LicensingModel.Subscription.NAME);
+        validation.put(Constants.LicensingModel.VALID, "false");
+        validation.put(Constants.ValidationResult.WARNING_LEVEL, "RED");
+
+        final LicensingModelValidation.Subscription subscription = assertInstanceOf(
+                LicensingModelValidation.Subscription.class, LicensingModelValidation.of(validation));
+        assertFalse(subscription.isValid());
+        assertEquals(WarningLevel.RED, subscription.getWarningLevel());
+        assertNull(subscription.getExpires());
+    }
+
+    @Test
+    public void testPayPerUse() {
+        final Composition validation = validation(Constants.LicensingModel.PayPerUse.NAME);
+        validation.put(Constants.LicensingModel.PayPerUse.REMAINING_QUANTITY, "42");
+
+        final LicensingModelValidation.PayPerUse payPerUse = assertInstanceOf(
+                LicensingModelValidation.PayPerUse.class, LicensingModelValidation.of(validation));
+        assertEquals(Long.valueOf(42), payPerUse.getRemainingQuantity());
+
+        validation.put(Constants.LicensingModel.PayPerUse.REMAINING_QUANTITY, "many");
+        assertThrows(IllegalArgumentException.class, () -> LicensingModelValidation.of(validation));
+    }
+
+    @Test
+    public void testLicensingModelWithoutSpecificValues() {
+        final LicensingModelValidation view = LicensingModelValidation.of(
+                validation(Constants.LicensingModel.Floating.NAME));
+        assertEquals(LicensingModelValidation.class, view.getClass());
+        assertEquals(Constants.LicensingModel.Floating.NAME, view.getLicensingModel());
+    }
+
+    @Test
+    public void testUnknownLicensingModel() {
+        final Composition validation = validation("FutureModel");
+        validation.put("custom", "value");
+
+        final LicensingModelValidation view = LicensingModelValidation.of(validation);
+        assertEquals(LicensingModelValidation.class, view.getClass());
+        assertEquals("FutureModel", view.getLicensingModel());
+        assertEquals("value", view.getProperty("custom"));
+    }
+
+    @Test
+    public void testViewReplacedWithValidation() {
+        final ValidationResult result = new ValidationResult();
+        result.setProductModuleValidation("M001", validation(Constants.LicensingModel.Subscription.NAME));
+        final LicensingModelValidation view = result.getLicensingModelValidation("M001");
+        assertFalse(view.isValid());
+
+        result.put("M001", Constants.LicensingModel.VALID, "true");
+        assertNotSame(view, result.getLicensingModelValidation("M001"));
+        assertTrue(result.getLicensingModelValidation("M001").isValid());
+    }
+
+    private static Composition validation(final String licensingModel) {
+        final Composition validation = new Composition();
+        validation.put(Constants.ProductModule.LICENSING_MODEL, licensingModel);
+        return validation;
+    }
+
+}
@@ -0,0 +1,66 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.labs64.netlicensing.provider;
+
+import java.net.http.HttpClient;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests for {@link HttpClientRegistry}.
+ */
+public class HttpClientRegistryTest {
+
+    private static final String BASE_PATH = "http://localhost:28080/core/v2/rest";
+
+    @Test
+    public void testClientSharedAcrossConfigurationInstances() {
+        assertSame(HttpClientRegistry.get(BASE_PATH, configuration(false)),
+                HttpClientRegistry.get(BASE_PATH, configuration(false)));
+        assertSame(HttpClientRegistry.get(BASE_PATH, null), HttpClientRegistry.get(BASE_PATH, configuration(false)));
+        assertNotSame(HttpClientRegistry.get(BASE_PATH, configuration(false)),
+                HttpClientRegistry.get(BASE_PATH, configuration(true)));
+    }
+
+    @Test
+    public void testShutdownReleasesClients() {
+        final HttpClient client = HttpClientRegistry.get(BASE_PATH, configuration(false));
+        HttpClientRegistry.shutdown();
+        assertNotSame(client, HttpClientRegistry.get(BASE_PATH, configuration(false)));
+    }
+
+    private static RestProvider.Configuration configuration(final boolean virtualThreads) {
+        return new RestProvider.Configuration() {
+
+            @Override
+            public String getUserAgent() {
+                return "test";
+            }
+
+            @Override
+            public boolean isLoggingEnabled() {
+                return false;
+            }
+
+            @Override
+            public boolean isVirtualThreadsEnabled() {
+                return virtualThreads;
+            }
+
+        };
+    }
+
+}
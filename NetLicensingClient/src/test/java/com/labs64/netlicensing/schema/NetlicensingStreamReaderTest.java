@@ -0,0 +1,77 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.labs64.netlicensing.schema;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.labs64.netlicensing.schema.context.Item;
+import com.labs64.netlicensing.schema.context.Netlicensing;
+import com.labs64.netlicensing.util.JAXBUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link NetlicensingStreamReader}.
+ */
+public class NetlicensingStreamReaderTest {
+
+    @Test
+    public void testSameTreeAsJaxbForAllMocks() throws Exception {
+        final File[] mocks = new File(getClass().getClassLoader().getResource("mock").toURI()).listFiles();
+        assertTrue(mocks.length > 0);
+        Arrays.sort(mocks);
+
+        for (final File mock : mocks) {
+            final byte[] content = Files.readAllBytes(mock.toPath());
+            final Netlicensing expected = JAXBUtils.readObjectFromBytes(content, Netlicensing.class);
+            final Netlicensing actual = new NetlicensingStreamReader().read(new ByteArrayInputStream(content));
+
+            assertEquals(JAXBUtils.xmlEntityToString(expected), JAXBUtils.xmlEntityToString(actual), mock.getName());
+        }
+    }
+
+    @Test
+    public void testItemConsumer() throws Exception {
+        final List<Item> items = new ArrayList<>();
+        try (InputStream inputStream = getClass().getClassLoader()
+                .getResourceAsStream("mock/netlicensing-product-list.xml")) {
+            final Netlicensing netlicensing = new NetlicensingStreamReader().read(inputStream, items::add);
+
+            assertEquals(3, items.size());
+            assertTrue(netlicensing.getItems().getItem().isEmpty());
+            assertEquals("3", netlicensing.getItems().getTotalitems());
+        }
+    }
+
+    @Test
+    public void testSignatureSkipped() throws Exception {
+        try (InputStream inputStream = getClass().getClassLoader()
+                .getResourceAsStream("xmldsig/xml-signed-nlic-01.xml")) {
+            final Netlicensing netlicensing = new NetlicensingStreamReader().read(inputStream);
+
+            assertEquals("2020-12-28T22:53:06.681Z", netlicensing.getTtl().toXMLFormat());
+            assertNotNull(netlicensing.getItems());
+        }
+    }
+
+}
@@ -0,0 +1,54 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.labs64.netlicensing.schema;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.labs64.netlicensing.schema.context.Property;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link PropertyIndex}.
+ */
+public class PropertyIndexTest {
+
+    @Test
+    public void testSameValuesAsPropertyByName() {
+        final List<Property> properties = Arrays.asList(new Property("P001", "number"),
+                new Property("true", "Active"), new Property(null, "name"), new Property("ignored", "NUMBER"));
+        final PropertyIndex index = PropertyIndex.of(properties);
+
+        for (final String name : Arrays.asList("number", "Number", "active", "ACTIVE", "name", "missing")) {
+            assertEquals(SchemaFunction.propertyByName(properties, name).getValue(), index.getValue(name), name);
+            assertEquals(SchemaFunction.propertyByName(properties, name, "default").getValue(),
+                    index.getValue(name, "default"), name);
+        }
+    }
+
+    @Test
+    public void testContains() {
+        final PropertyIndex index = PropertyIndex.of(Arrays.asList(new Property(null, "name")));
+
+        assertTrue(index.contains("NAME"));
+        assertNull(index.getValue("name", "default"));
+        assertFalse(index.contains("number"));
+    }
+
+}
@@ -0,0 +1,88 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.labs64.netlicensing.schema.converter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.datatype.DatatypeFactory;
+
+import org.junit.jupiter.api.Test;
+
+import com.labs64.netlicensing.domain.Constants;
+import com.labs64.netlicensing.domain.vo.Composition;
+import com.labs64.netlicensing.domain.vo.ValidationResult;
+import com.labs64.netlicensing.schema.context.Item;
+import com.labs64.netlicensing.schema.context.Netlicensing;
+import com.labs64.netlicensing.schema.context.Property;
+import com.labs64.netlicensing.util.CompactPropertyMap;
+import com.labs64.netlicensing.util.DateUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link ItemsToValidationResultConverter}.
+ */
+public class ItemsToValidationResultConverterTest {
+
+    @Test
+    public void testServerTtl() throws Exception {
+        final Netlicensing netlicensing = new Netlicensing();
+        netlicensing.setTtl(DatatypeFactory.newInstance().newXMLGregorianCalendar("2030-01-02T03:04:05.678+02:00"));
+
+        final ValidationResult result = new ItemsToValidationResultConverter().convert(netlicensing);
+
+        assertEquals(DateUtils.parseDate("2030-01-02T01:04:05.678Z").getTimeInMillis(),
+                result.getTtl().getTimeInMillis());
+        assertEquals("UTC", result.getTtl().getTimeZone().getID());
+    }
+
+    @Test
+    public void testCompactProperties() throws Exception {
+        final Item item = new Item();
+        item.setType(Constants.ValidationResult.VALIDATION_RESULT_TYPE);
+        item.getProperty().add(new Property("M001-TEST", Constants.ProductModule.PRODUCT_MODULE_NUMBER));
+        item.getProperty().add(new Property("true", Constants.LicensingModel.VALID));
+        item.getProperty().add(new Property("Subscription", Constants.ProductModule.LICENSING_MODEL));
+        final Netlicensing netlicensing = new Netlicensing();
+        netlicensing.setItems(new Netlicensing.Items());
+        netlicensing.getItems().getItem().add(item);
+
+        final Composition validation = new ItemsToValidationResultConverter().convert(netlicensing)
+                .getProductModuleValidation("M001-TEST");
+
+        assertInstanceOf(CompactPropertyMap.class, validation.getProperties());
+        assertEquals(Arrays.asList(Constants.ProductModule.LICENSING_MODEL, Constants.LicensingModel.VALID),
+                new ArrayList<>(validation.getProperties().keySet()));
+        assertEquals("true", validation.getProperties().get(Constants.LicensingModel.VALID).getValue());
+    }
+
+    @Test
+    public void testDefaultTtl() throws Exception {
+        final long before = System.currentTimeMillis();
+        final ValidationResult result = new ItemsToValidationResultConverter().convert(new Netlicensing());
+        final long after = System.currentTimeMillis();
+
+        final Calendar ttl = result.getTtl();
+        final long defaultTtl = TimeUnit.MINUTES.toMillis(Constants.ValidationResult.DEFAULT_TTL_MINUTES);
+        assertTrue(ttl.getTimeInMillis() >= before + defaultTtl);
+        assertTrue(ttl.getTimeInMillis() <= after + defaultTtl);
+        assertSame(ttl, result.getTtl());
+    }
+
+}
@@ -0,0 +1,72 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.labs64.netlicensing.schema.converter;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.labs64.netlicensing.domain.Constants;
+import com.labs64.netlicensing.domain.entity.Licensee;
+import com.labs64.netlicensing.schema.context.Item;
+import com.labs64.netlicensing.schema.context.Property;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests for {@link PropertyInterner}.
+ */
+public class PropertyInternerTest {
+
+    @Test
+    public void testCanonicalInstances() {
+        final String name = PropertyInterner.name(new String("customName"));
+        assertSame(name, PropertyInterner.name(new String("customName")));
+
+        for (final String common : new String[] { "false", "YELLOW", "EUR", "CHF" }) {
+            assertSame(PropertyInterner.value(new String(common)), PropertyInterner.value(new String(common)));
+        }
+
+        // prices, quantities and other values outside the fixed set are never shared
+        final String price = new String("9.99");
+        assertSame(price, PropertyInterner.value(price));
+        assertNotSame(price, PropertyInterner.value(new String(price)));
+
+        assertNull(PropertyInterner.name(null));
+        assertNull(PropertyInterner.value(null));
+    }
+
+    @Test
+    public void testConvertedEntitiesShareProperties() throws Exception {
+        final Licensee first = new ItemToLicenseeConverter().convert(licenseeItem("L001"));
+        final Licensee second = new ItemToLicenseeConverter().convert(licenseeItem("L002"));
+
+        final Map.Entry<String, String> firstEntry = first.getProperties().entrySet().iterator().next();
+        final Map.Entry<String, String> secondEntry = second.getProperties().entrySet().iterator().next();
+        assertEquals("trial", firstEntry.getKey());
+        assertSame(firstEntry.getKey(), secondEntry.getKey());
+        assertSame(firstEntry.getValue(), secondEntry.getValue());
+    }
+
+    private static Item licenseeItem(final String number) {
+        final Item item = new Item();
+        item.setType(Licensee.class.getSimpleName());
+        item.getProperty().add(new Property(number, new String(Constants.NUMBER)));
+        item.getProperty().add(new Property(new String("true"), new String("trial")));
+        return item;
+    }
+
+}
@@ -13,9 +13,12 @@
 package com.labs64.netlicensing.service;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.core.MultivaluedMap;
@@ -39,6 +42,7 @@ import com.labs64.netlicensing.schema.context.Property;
 import com.labs64.netlicensing.util.JAXBUtils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -145,6 +149,53 @@ public class LicenseServiceTest extends BaseServiceTest {
         assertEquals("LT002-TEST", licenses.getContent().get(2).getLicenseTemplate().getNumber());
     }
 
+    @Test
+    public void testListStreaming() throws Exception {
+        final List<License> licenses = new ArrayList<>();
+        final Page<License> page = LicenseService.list(context, null, licenses::add);
+
+        assertNotNull(page);
+        assertFalse(page.hasContent());
+        assertEquals(3, page.getItemsNumber());
+        assertEquals(3, licenses.size());
+        assertEquals("LC001-TEST", licenses.get(0).getNumber());
+        assertEquals("Test License 2", licenses.get(1).getName());
+        assertEquals("LT002-TEST", licenses.get(2).getLicenseTemplate().getNumber());
+    }
+
+    @Test
+    public void testListPublisher() throws Exception {
+        final List<License> licenses = new ArrayList<>();
+        final CompletableFuture<Void> completion = new CompletableFuture<>();
+        LicenseService.listPublisher(context, null).subscribe(new Flow.Subscriber<License>() {
+
+            @Override
+            public void onSubscribe(final Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(final License license) {
+                licenses.add(license);
+            }
+
+            @Override
+            public void onError(final Throwable throwable) {
+                completion.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                completion.complete(null);
+            }
+
+        });
+        completion.get();
+
+        assertEquals(3, licenses.size());
+        assertEquals("LC001-TEST", licenses.get(0).getNumber());
+    }
+
     @Test
     public void testUpdate() throws Exception {
         final License license = new LicenseImpl();
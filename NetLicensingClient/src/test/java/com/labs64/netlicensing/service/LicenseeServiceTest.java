@@ -12,8 +12,15 @@
  */
 package com.labs64.netlicensing.service;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import jakarta.ws.rs.FormParam;
 import jakarta.ws.rs.POST;
@@ -32,17 +39,24 @@ import com.labs64.netlicensing.domain.entity.Licensee;
 import com.labs64.netlicensing.domain.entity.impl.LicenseeImpl;
 import com.labs64.netlicensing.domain.vo.Composition;
 import com.labs64.netlicensing.domain.vo.Context;
+import com.labs64.netlicensing.domain.vo.LicensingModelValidation;
 import com.labs64.netlicensing.domain.vo.Page;
 import com.labs64.netlicensing.domain.vo.ValidationParameters;
 import com.labs64.netlicensing.domain.vo.ValidationResult;
 import com.labs64.netlicensing.domain.vo.WarningLevel;
+import com.labs64.netlicensing.exception.MalformedArgumentsException;
 import com.labs64.netlicensing.exception.ServiceException;
 import com.labs64.netlicensing.schema.context.Netlicensing;
+import com.labs64.netlicensing.util.DateUtils;
 import com.labs64.netlicensing.util.JAXBUtils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -54,6 +68,9 @@ public class LicenseeServiceTest extends BaseServiceTest {
     private static final String LICENSEE_CUSTOM_PROPERTY = "CustomProperty";
     private static final String LICENSEE_DELETING_PROPERTY = "toBeDeleted";
 
+    /** time to live of the validation result served by the mock */
+    private static final Instant VALIDATION_TTL = Instant.parse("2014-07-08T21:30:46.658Z");
+
     final String productNumber = "P001-TEST";
     final String licenseeNumber = "L001-TEST";
 
@@ -175,6 +192,196 @@ public class LicenseeServiceTest extends BaseServiceTest {
                         .get(Constants.ValidationResult.WARNING_LEVEL).getValue()));
     }
 
+    @Test
+    public void testValidateLicensingModel() throws Exception {
+        final ValidationParameters validationParameters = new ValidationParameters();
+        validationParameters.setLicenseeName("Test Licensee");
+        validationParameters.setProductNumber(productNumber);
+        validationParameters.setLicenseeProperty("customProperty", "Licensee Custom Property");
+        final ValidationResult result = LicenseeService.validate(context, licenseeNumber, validationParameters);
+
+        final LicensingModelValidation.Rental rental = result.getLicensingModelValidation("M001-TEST",
+                LicensingModelValidation.Rental.class);
+        assertEquals("Test module", rental.getProductModuleName());
+        assertEquals(2, rental.getFeatures().size());
+        assertTrue(rental.isValid("LIST1"));
+        assertFalse(rental.isValid("LIST3"));
+        assertEquals(WarningLevel.GREEN, rental.getFeature("LIST2").getWarningLevel());
+        assertEquals(DateUtils.parseDate("2014-08-06T21:30:45.574Z"), rental.getFeature("LIST1").getExpires());
+        assertSame(rental, result.getLicensingModelValidation("M001-TEST"));
+
+        assertNull(result.getLicensingModelValidation("M002-TEST"));
+        assertThrows(IllegalArgumentException.class, () -> result.getLicensingModelValidation("M001-TEST",
+                LicensingModelValidation.Subscription.class));
+    }
+
+    @Test
+    public void testValidateAsync() throws Exception {
+        final ValidationParameters validationParameters = new ValidationParameters();
+        validationParameters.setLicenseeName("Test Licensee");
+        validationParameters.setProductNumber(productNumber);
+        validationParameters.setLicenseeProperty("customProperty", "Licensee Custom Property");
+        final ValidationResult result = LicenseeService.validateAsync(context, licenseeNumber, validationParameters)
+                .get();
+
+        assertNotNull(result);
+        final Composition validation = result.getProductModuleValidation("M001-TEST");
+        assertNotNull(validation);
+        assertEquals("FeatureWithTimeVolume", validation.getProperties().get(Constants.ProductModule.LICENSING_MODEL)
+                .getValue());
+    }
+
+    @Test
+    public void testValidateCached() throws Exception {
+        final Context cachingContext = createContext();
+        final ValidationResultCache cache = new ValidationResultCache(10, clockAt(Duration.ofHours(-1)));
+        cachingContext.setObject(ValidationResultCache.class, cache);
+
+        final ValidationParameters validationParameters = new ValidationParameters();
+        validationParameters.setLicenseeName("Test Licensee");
+        validationParameters.setProductNumber(productNumber);
+        validationParameters.setLicenseeProperty("customProperty", "Licensee Custom Property");
+        final ValidationResult result = LicenseeService.validate(cachingContext, licenseeNumber, validationParameters);
+        final ValidationResult cachedResult = LicenseeService.validateAsync(cachingContext, licenseeNumber,
+                validationParameters).get();
+
+        assertNotSame(result, cachedResult);
+        assertEquals(result.toString(), cachedResult.toString());
+        assertEquals(1, cache.getStats().getHitCount());
+        assertEquals(1, cache.getStats().getMissCount());
+
+        // changes to a returned result do not reach the cache
+        cachedResult.put("M001-TEST", Constants.LicensingModel.VALID, "false");
+        cachedResult.setTtl(null);
+        final ValidationResult otherResult = LicenseeService.validate(cachingContext, licenseeNumber,
+                validationParameters);
+        assertEquals(result.toString(), otherResult.toString());
+        assertEquals(result.getTtl(), otherResult.getTtl());
+
+        // an equally configured context shares the cached result
+        final Context otherContext = createContext();
+        otherContext.setObject(ValidationResultCache.class, cache);
+        LicenseeService.validate(otherContext, licenseeNumber, validationParameters);
+        assertEquals(3, cache.getStats().getHitCount());
+        assertEquals(1, cache.size());
+
+        cache.invalidate(otherContext, licenseeNumber);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testValidateWithoutTtlNotCached() throws Exception {
+        final Context cachingContext = createContext();
+        final ValidationResultCache cache = new ValidationResultCache(10, clockAt(Duration.ofHours(-1)));
+        cachingContext.setObject(ValidationResultCache.class, cache);
+
+        // the mock serves the offline validation file without a time to live
+        final ValidationParameters validationParameters = new ValidationParameters();
+        validationParameters.setLicenseeName("Test Licensee");
+        validationParameters.setProductNumber(productNumber);
+        validationParameters.setLicenseeProperty("customProperty", "Licensee Custom Property");
+        validationParameters.setForOfflineUse(true);
+        final ValidationResult result = LicenseeService.validate(cachingContext, licenseeNumber, validationParameters);
+        assertNotNull(result.getTtl());
+
+        assertNotSame(result, LicenseeService.validate(cachingContext, licenseeNumber, validationParameters));
+        assertNotSame(result, LicenseeService.validateAsync(cachingContext, licenseeNumber, validationParameters)
+                .get());
+        assertEquals(0, cache.getStats().getHitCount());
+        assertEquals(3, cache.getStats().getMissCount());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testValidateCacheExpired() throws Exception {
+        final Context cachingContext = createContext();
+        final ValidationResultCache cache = new ValidationResultCache(10, clockAt(Duration.ofMinutes(1)));
+        cachingContext.setObject(ValidationResultCache.class, cache);
+
+        final ValidationParameters validationParameters = new ValidationParameters();
+        validationParameters.setLicenseeName("Test Licensee");
+        validationParameters.setProductNumber(productNumber);
+        validationParameters.setLicenseeProperty("customProperty", "Licensee Custom Property");
+        final ValidationResult result = LicenseeService.validate(cachingContext, licenseeNumber, validationParameters);
+
+        assertNotSame(result, LicenseeService.validate(cachingContext, licenseeNumber, validationParameters));
+        assertEquals(0, cache.getStats().getHitCount());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testValidateStaleWhileRevalidate() throws Exception {
+        final Context cachingContext = createContext();
+        final ValidationResultCache cache = new ValidationResultCache(10, clockAt(Duration.ofHours(1)))
+                .setGracePeriod(Duration.ofDays(1));
+        cachingContext.setObject(ValidationResultCache.class, cache);
+
+        final ValidationParameters validationParameters = new ValidationParameters();
+        validationParameters.setLicenseeName("Test Licensee");
+        validationParameters.setProductNumber(productNumber);
+        validationParameters.setLicenseeProperty("customProperty", "Licensee Custom Property");
+        final int requests = LicenseeServiceResource.validateRequests.get();
+        LicenseeService.validate(cachingContext, licenseeNumber, validationParameters);
+
+        // stale result is served while the refresh runs in the background
+        LicenseeService.validate(cachingContext, licenseeNumber, validationParameters);
+        assertEquals(1, cache.getStats().getStaleHitCount());
+
+        awaitValidateRequests(requests + 2);
+        assertEquals(1, cache.getStats().getMissCount());
+    }
+
+    @Test
+    public void testValidateRefreshAhead() throws Exception {
+        final Context cachingContext = createContext();
+        final ManualClock clock = new ManualClock(VALIDATION_TTL.minus(Duration.ofHours(1)));
+        final ValidationResultCache cache = new ValidationResultCache(10, clock);
+        cachingContext.setObject(ValidationResultCache.class, cache);
+
+        final ValidationParameters validationParameters = new ValidationParameters();
+        validationParameters.setLicenseeName("Test Licensee");
+        validationParameters.setProductNumber(productNumber);
+        validationParameters.setLicenseeProperty("customProperty", "Licensee Custom Property");
+        try (final ValidationRefreshScheduler scheduler = new ValidationRefreshScheduler(cache, 10.0)
+                .setRefreshAhead(Duration.ofMinutes(10))) {
+            final int requests = LicenseeServiceResource.validateRequests.get();
+            LicenseeService.validate(cachingContext, licenseeNumber, validationParameters);
+            assertEquals(0, scheduler.tick());
+
+            // validated every 5 minutes; within the last 5 minutes the result is due, whatever its jitter
+            for (int i = 0; i < 11; i++) {
+                clock.advance(Duration.ofMinutes(5));
+                LicenseeService.validate(cachingContext, licenseeNumber, validationParameters);
+            }
+            assertEquals(1, scheduler.tick());
+
+            awaitValidateRequests(requests + 2);
+            assertEquals(1, cache.getStats().getMissCount());
+        }
+    }
+
+    @Test
+    public void testValidateAll() throws Exception {
+        final ValidationParameters validationParameters = new ValidationParameters();
+        validationParameters.setLicenseeName("Test Licensee");
+        validationParameters.setProductNumber(productNumber);
+        validationParameters.setLicenseeProperty("customProperty", "Licensee Custom Property");
+        final BulkValidationResult bulkResult = LicenseeService.validateAll(context,
+                Arrays.asList("L001-TEST", "L002-TEST", "", "L003-TEST", "L001-TEST"), validationParameters, 2);
+
+        assertEquals(4, bulkResult.getCount());
+        assertEquals(Arrays.asList("L001-TEST", "L002-TEST", "L003-TEST"),
+                new ArrayList<>(bulkResult.getResults().keySet()));
+        assertNotNull(bulkResult.getResults().get("L002-TEST").getProductModuleValidation("M001-TEST"));
+        assertEquals(1, bulkResult.getErrors().size());
+        assertInstanceOf(MalformedArgumentsException.class, bulkResult.getErrors().get(""));
+        assertTrue(bulkResult.getThroughput() > 0);
+        assertTrue(bulkResult.getMaxLatency().compareTo(bulkResult.getLatencyPercentile(50)) >= 0);
+
+        assertThrows(MalformedArgumentsException.class,
+                () -> LicenseeService.validateAll(context, Arrays.asList(licenseeNumber), validationParameters, 0));
+    }
+
     @Test
     public void testOfflineValidation() throws Exception {
         final ValidationParameters validationParameters = new ValidationParameters();
@@ -219,6 +426,23 @@ public class LicenseeServiceTest extends BaseServiceTest {
         // TODO(2K): test for exceptions
     }
 
+    /**
+     * Waits for background refreshes to reach the mock resource.
+     */
+    private static void awaitValidateRequests(final int expected) throws InterruptedException {
+        for (int i = 0; (i < 50) && (LicenseeServiceResource.validateRequests.get() < expected); i++) {
+            Thread.sleep(100);
+        }
+        assertEquals(expected, LicenseeServiceResource.validateRequests.get());
+    }
+
+    /**
+     * @return clock fixed at the given offset from the time to live of the mocked validation result
+     */
+    private static Clock clockAt(final Duration offsetFromTtl) {
+        return Clock.fixed(VALIDATION_TTL.plus(offsetFromTtl), ZoneOffset.UTC);
+    }
+
     // *** NLIC test mock resource ***
 
     @Override
@@ -229,6 +453,9 @@ public class LicenseeServiceTest extends BaseServiceTest {
     @Path(REST_API_PATH + "/licensee")
     public static class LicenseeServiceResource extends AbstractNLICServiceResource {
 
+        /** number of validate requests received, to observe background refreshes */
+        static final AtomicInteger validateRequests = new AtomicInteger();
+
         public LicenseeServiceResource() {
             super("licensee");
         }
@@ -267,6 +494,7 @@ public class LicenseeServiceTest extends BaseServiceTest {
                 @FormParam("licenseeName") final String licenseeName,
                 @FormParam("customProperty") final String licenseeCustomProperty,
                 @FormParam("forOfflineUse") final String forOfflineUse) {
+            validateRequests.incrementAndGet();
 
             if (!productNumber.equals(productNumber)) {
                 return unexpectedValueErrorResponse("productNumber");
@@ -12,8 +12,16 @@
  */
 package com.labs64.netlicensing.service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
 
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.core.MultivaluedMap;
@@ -24,15 +32,24 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import com.labs64.netlicensing.domain.Constants;
+import com.labs64.netlicensing.domain.EntityFactory;
 import com.labs64.netlicensing.domain.entity.Product;
+import com.labs64.netlicensing.domain.entity.ProductModule;
 import com.labs64.netlicensing.domain.entity.impl.ProductImpl;
 import com.labs64.netlicensing.domain.vo.Context;
 import com.labs64.netlicensing.domain.vo.Page;
+import com.labs64.netlicensing.exception.NetLicensingException;
 import com.labs64.netlicensing.exception.ServiceException;
+import com.labs64.netlicensing.provider.HttpMethod;
+import com.labs64.netlicensing.provider.RestProvider;
+import com.labs64.netlicensing.schema.context.Netlicensing;
+import com.labs64.netlicensing.util.JAXBUtils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -110,6 +127,121 @@ public class ProductServiceTest extends BaseServiceTest {
         assertEquals("CustomPropertyValue", resultProduct.getProperties().get(PRODUCT_CUSTOM_PROPERTY));
     }
 
+    @Test
+    public void testListLinkedEntities() throws Exception {
+        final String response = "<netlicensing xmlns=\"http://netlicensing.labs64.com/schema/context\">"
+                + "<items pagenumber=\"0\" itemsnumber=\"2\" totalpages=\"1\" totalitems=\"2\" hasnext=\"false\">"
+                + item("Product", "number", "P1", "name", "Product 1")
+                + item("Product", "number", "P2", "name", "Product 2")
+                + item("ProductModule", "number", "M1", "productNumber", "P2", "licensingModel", "Subscription")
+                + item("ProductModule", "number", "M2", "productNumber", "P1", "licensingModel", "TryAndBuy")
+                + item("ProductModule", "number", "M3", "productNumber", "P1", "licensingModel", "Subscription")
+                + item("LicenseTemplate", "number", "T1", "productModuleNumber", "M3", "licenseType", "FEATURE")
+                + item("Licensee", "number", "L1", "productNumber", "P2")
+                + "</items></netlicensing>";
+        final Page<Product> page = new EntityFactory()
+                .createPage(JAXBUtils.readObjectFromString(response, Netlicensing.class), Product.class);
+
+        assertEquals(2, page.getContent().size());
+        final Product product1 = page.getContent().get(0);
+        final Product product2 = page.getContent().get(1);
+        assertEquals(Arrays.asList("M2", "M3"), product1.getProductModules().stream().map(ProductModule::getNumber)
+                .collect(Collectors.toList()));
+        assertEquals(Arrays.asList("M1"), product2.getProductModules().stream().map(ProductModule::getNumber)
+                .collect(Collectors.toList()));
+        assertSame(product1, product1.getProductModules().iterator().next().getProduct());
+        assertEquals(1, product2.getLicensees().size());
+        assertTrue(product1.getLicensees().isEmpty());
+
+        final ProductModule module3 = product1.getProductModules().stream()
+                .filter(module -> "M3".equals(module.getNumber())).findFirst().get();
+        assertEquals(1, module3.getLicenseTemplates().size());
+        assertSame(module3, module3.getLicenseTemplates().iterator().next().getProductModule());
+    }
+
+    private static String item(final String type, final String... properties) {
+        final StringBuilder item = new StringBuilder("<item type=\"" + type + "\">");
+        for (int i = 0; i < properties.length; i += 2) {
+            item.append("<property name=\"").append(properties[i]).append("\">").append(properties[i + 1])
+                    .append("</property>");
+        }
+        return item.append("</item>").toString();
+    }
+
+    @Test
+    public void testGetCoalesced() throws Exception {
+        final Context coalescingContext = createContext();
+        final RequestCoalescer coalescer = new RequestCoalescer();
+        coalescingContext.setObject(RequestCoalescer.class, coalescer);
+
+        // hold an identical request in flight until the others have joined it
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final RequestCoalescer.Key key = RequestCoalescer.key(coalescingContext, HttpMethod.GET,
+                Constants.Product.ENDPOINT_PATH + "/P014-TEST", null, null);
+        final CompletableFuture<Netlicensing> leader = CompletableFuture.supplyAsync(() -> {
+            try {
+                return coalescer.execute(key, () -> {
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return NetLicensingService.getInstance().request(context, HttpMethod.GET,
+                            Constants.Product.ENDPOINT_PATH + "/P014-TEST", null, null);
+                });
+            } catch (final NetLicensingException e) {
+                throw new CompletionException(e);
+            }
+        });
+        started.await();
+
+        final List<CompletableFuture<Product>> followers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            followers.add(ProductService.getAsync(coalescingContext, "P014-TEST"));
+        }
+        release.countDown();
+
+        assertNotNull(leader.get());
+        for (final CompletableFuture<Product> follower : followers) {
+            assertEquals("Product Numero Uno", follower.get().getName());
+        }
+        assertEquals(1, coalescer.getRequestCount());
+        assertEquals(3, coalescer.getCoalescedCount());
+
+        // no request in flight any more
+        assertEquals("P014-TEST", ProductService.get(coalescingContext, "P014-TEST").getNumber());
+        assertEquals(2, coalescer.getRequestCount());
+    }
+
+    @Test
+    public void testGetWithVirtualThreads() throws Exception {
+        final Context virtualThreadsContext = createContext();
+        virtualThreadsContext.setObject(RestProvider.Configuration.class, new RestProvider.Configuration() {
+
+            @Override
+            public String getUserAgent() {
+                return "NetLicensing/Java test";
+            }
+
+            @Override
+            public boolean isLoggingEnabled() {
+                return false;
+            }
+
+            @Override
+            public boolean isVirtualThreadsEnabled() {
+                return true;
+            }
+
+        });
+        final Product resultProduct = ProductService.getAsync(virtualThreadsContext, "P014-TEST").get();
+
+        assertNotNull(resultProduct);
+        assertEquals("P014-TEST", resultProduct.getNumber());
+    }
+
     @Test
     public void testList() throws Exception {
         final Page<Product> products = ProductService.list(context, null);
@@ -122,6 +254,15 @@ public class ProductServiceTest extends BaseServiceTest {
         assertEquals("v2.0", products.getContent().get(2).getVersion());
     }
 
+    @Test
+    public void testListAsync() throws Exception {
+        final Page<Product> products = ProductService.listAsync(context, null).get();
+
+        assertNotNull(products);
+        assertEquals(3, products.getItemsNumber());
+        assertEquals("P001-TEST", products.getContent().get(0).getNumber());
+    }
+
     @Test
     public void testUpdate() throws Exception {
         final Product product = new ProductImpl();
@@ -152,6 +293,17 @@ public class ProductServiceTest extends BaseServiceTest {
         assertEquals("NotFoundException: Requested product does not exist", e.getMessage());
     }
 
+    @Test
+    public void testDeleteAsync() throws Exception {
+        ProductService.deleteAsync(context, "P001-TEST", true).get();
+
+        final ExecutionException e = assertThrows(ExecutionException.class, () -> {
+            ProductService.deleteAsync(context, "P001-NONE", false).get();
+        });
+        assertInstanceOf(ServiceException.class, e.getCause());
+        assertEquals("NotFoundException: Requested product does not exist", e.getCause().getMessage());
+    }
+
     // *** NLIC test mock resource ***
 
     @Override
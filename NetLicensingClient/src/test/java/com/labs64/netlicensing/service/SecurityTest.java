@@ -12,23 +12,33 @@
  */
 package com.labs64.netlicensing.service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+import java.util.concurrent.ExecutionException;
 
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.HeaderParam;
 import com.labs64.netlicensing.provider.HttpMethod;
 import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 
+import org.apache.commons.io.IOUtils;
+
 import org.junit.jupiter.api.Test;
 
 import com.labs64.netlicensing.domain.vo.Context;
 import com.labs64.netlicensing.domain.vo.SecurityMode;
+import com.labs64.netlicensing.exception.BadSignatureException;
 import com.labs64.netlicensing.schema.context.Info;
 import com.labs64.netlicensing.schema.context.Netlicensing;
 import com.labs64.netlicensing.schema.context.ObjectFactory;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -76,6 +86,66 @@ public class SecurityTest extends BaseServiceTest {
 
     }
 
+    @Test
+    public void testSignedResponse() throws Exception {
+        final Context context = createContext();
+        context.setPublicKey(readResource("xmldsig/rsa_public.pem"));
+
+        final Netlicensing res = NetLicensingService.getInstance().request(context, HttpMethod.GET, "get-signed",
+                null, null);
+
+        assertEquals("Msb-DEMO", res.getItems().getItem().get(0).getProperty().get(0).getValue());
+    }
+
+    @Test
+    public void testSignedResponseKeyRotation() throws Exception {
+        final Context context = createContext();
+        context.setPublicKeys(readResource("xmldsig/rsa_public_wrong.pem"), readResource("xmldsig/rsa_public.pem"));
+
+        final Netlicensing res = NetLicensingService.getInstance().request(context, HttpMethod.GET, "get-signed",
+                null, null);
+
+        assertEquals("Msb-DEMO", res.getItems().getItem().get(0).getProperty().get(0).getValue());
+    }
+
+    @Test
+    public void testPublicKeyRoundTrip() {
+        final Context context = new Context();
+        context.setPublicKey("");
+        assertEquals("", context.getPublicKey());
+        assertTrue(context.getPublicKeys().isEmpty());
+
+        context.setPublicKeys("first", "second");
+        assertEquals("first", context.getPublicKey());
+    }
+
+    @Test
+    public void testSignedResponseContentMismatch() throws Exception {
+        final Context context = createContext();
+        context.setPublicKey(readResource("xmldsig/rsa_public.pem"));
+
+        assertThrows(BadSignatureException.class, () -> {
+            NetLicensingService.getInstance().request(context, HttpMethod.GET, "get-signed-mismatch", null, null);
+        });
+    }
+
+    @Test
+    public void testSignedResponseWrongKey() throws Exception {
+        final Context context = createContext();
+        context.setPublicKey(readResource("xmldsig/rsa_public_wrong.pem"));
+
+        final ExecutionException e = assertThrows(ExecutionException.class, () -> {
+            NetLicensingService.getInstance().requestAsync(context, HttpMethod.GET, "get-signed", null, null).get();
+        });
+        assertInstanceOf(BadSignatureException.class, e.getCause());
+    }
+
+    private static String readResource(final String resource) throws IOException {
+        try (InputStream inputStream = SecurityTest.class.getClassLoader().getResourceAsStream(resource)) {
+            return IOUtils.toString(inputStream, StandardCharsets.UTF_8);
+        }
+    }
+
     // *** NLIC test mock resource ***
 
     @Override
@@ -102,5 +172,26 @@ public class SecurityTest extends BaseServiceTest {
             return Response.ok(netlicensing).build();
         }
 
+        @Path("get-signed")
+        @GET
+        public Response getSigned() {
+            return signedResponse("xmldsig/xml-signed-nlic-01.xml");
+        }
+
+        @Path("get-signed-mismatch")
+        @GET
+        public Response getSignedMismatch() {
+            return signedResponse("xmldsig/xml-signed-nlic-02-mismatch.xml");
+        }
+
+        private Response signedResponse(final String resource) {
+            // served as is, re-marshalling would break the signature
+            try {
+                return Response.ok(readResource(resource), MediaType.APPLICATION_XML).build();
+            } catch (final IOException e) {
+                return Response.serverError().entity("Exception in mocked server: " + e.getMessage()).build();
+            }
+        }
+
     }
 }
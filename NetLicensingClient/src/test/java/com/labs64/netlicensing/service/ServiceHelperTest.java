@@ -0,0 +1,149 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.labs64.netlicensing.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Response;
+import jakarta.xml.bind.JAXBException;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.labs64.netlicensing.domain.Constants;
+import com.labs64.netlicensing.domain.entity.Product;
+import com.labs64.netlicensing.domain.vo.Context;
+import com.labs64.netlicensing.exception.MalformedArgumentsException;
+import com.labs64.netlicensing.schema.SchemaFunction;
+import com.labs64.netlicensing.schema.context.Item;
+import com.labs64.netlicensing.schema.context.Netlicensing;
+import com.labs64.netlicensing.util.JAXBUtils;
+import com.labs64.netlicensing.util.ServiceHelper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration tests for {@link ServiceHelper}.
+ */
+public class ServiceHelperTest extends BaseServiceTest {
+
+    private static final int TOTAL_PAGES = 5;
+
+    // *** NLIC Tests ***
+
+    private static Context context;
+
+    @BeforeAll
+    public static void setup() {
+        context = createContext();
+    }
+
+    @Test
+    public void testListAll() throws Exception {
+        final List<Product> products = ServiceHelper.listAll(context, null, Product.class);
+
+        assertEquals(expectedNumbers(), products.stream().map(Product::getNumber).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testListAllParallel() throws Exception {
+        final List<Product> products = ServiceHelper.listAll(context, null, Product.class, 3);
+
+        assertEquals(expectedNumbers(), products.stream().map(Product::getNumber).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testStream() throws Exception {
+        try (Stream<Product> products = ServiceHelper.stream(context, null, Product.class)) {
+            assertEquals(expectedNumbers(), products.map(Product::getNumber).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testStreamLazy() throws Exception {
+        final int requestsBefore = PagedProductServiceResource.requests.get();
+        try (Stream<Product> products = ServiceHelper.stream(context, null, Product.class)) {
+            assertEquals(0, PagedProductServiceResource.requests.get() - requestsBefore);
+            assertEquals(Arrays.asList("P0-1", "P0-2"),
+                    products.limit(2).map(Product::getNumber).collect(Collectors.toList()));
+        }
+        // the first page and at most the prefetched second page
+        assertTrue(PagedProductServiceResource.requests.get() - requestsBefore <= 2);
+    }
+
+    @Test
+    public void testListAllInvalidParallelism() throws Exception {
+        assertThrows(MalformedArgumentsException.class, () -> ServiceHelper.listAll(context, null, Product.class, 0));
+    }
+
+    private static List<String> expectedNumbers() {
+        final List<String> numbers = new ArrayList<>();
+        for (int page = 0; page < TOTAL_PAGES; page++) {
+            for (int i = 1; i <= 3; i++) {
+                numbers.add("P" + page + "-" + i);
+            }
+        }
+        return numbers;
+    }
+
+    // *** NLIC test mock resource ***
+
+    @Override
+    protected java.lang.Class<?> getResourceClass() {
+        return PagedProductServiceResource.class;
+    }
+
+    /**
+     * Serves {@value #TOTAL_PAGES} pages of the product list, with product numbers telling the page they are on.
+     */
+    @Path(REST_API_PATH + "/product")
+    public static class PagedProductServiceResource {
+
+        static final AtomicInteger requests = new AtomicInteger();
+
+        @GET
+        public Response list(@QueryParam(Constants.FILTER) final String filter) {
+            requests.incrementAndGet();
+            final int page = Integer.parseInt(filter.replaceAll("^page=(\\d+).*$", "$1"));
+            try {
+                final Netlicensing netlicensing = JAXBUtils.readObject(TEST_CASE_BASE
+                        + "netlicensing-product-list.xml", Netlicensing.class);
+                final Netlicensing.Items items = netlicensing.getItems();
+                items.setPagenumber(String.valueOf(page));
+                items.setTotalpages(String.valueOf(TOTAL_PAGES));
+                items.setTotalitems(String.valueOf(TOTAL_PAGES * items.getItem().size()));
+                items.setHasnext(String.valueOf(page < TOTAL_PAGES - 1));
+                int i = 0;
+                for (final Item item : items.getItem()) {
+                    SchemaFunction.propertyByName(item.getProperty(), Constants.NUMBER).setValue("P" + page + "-"
+                            + (++i));
+                }
+                return Response.ok(netlicensing).build();
+            } catch (JAXBException e) {
+                return Response.serverError().entity("Exception in mocked server: " + e.getMessage()).build();
+            }
+        }
+
+    }
+
+}
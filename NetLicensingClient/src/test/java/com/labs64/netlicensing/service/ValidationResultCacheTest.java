@@ -0,0 +1,183 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.labs64.netlicensing.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import com.labs64.netlicensing.domain.vo.Context;
+import com.labs64.netlicensing.domain.vo.ValidationResult;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link ValidationResultCache} and {@link ValidationRefreshScheduler}.
+ */
+public class ValidationResultCacheTest {
+
+    private static final Duration TTL = Duration.ofSeconds(10);
+
+    @Test
+    public void testShortTtlRefreshedOncePerLifetime() {
+        final ManualClock clock = new ManualClock(Instant.parse("2014-07-07T21:30:46.658Z"));
+        final ValidationResultCache cache = new ValidationResultCache(10, clock);
+        final ValidationResultCache.Key key = ValidationResultCache.key(new Context(), "L001-TEST",
+                Collections.emptyMap());
+        final List<Long> stored = new ArrayList<>();
+
+        // refreshes complete immediately, each caching a result living TTL from now
+        final Supplier<CompletableFuture<?>> refresher = new Supplier<CompletableFuture<?>>() {
+
+            @Override
+            public CompletableFuture<?> get() {
+                stored.add(clock.millis());
+                cache.put(key, result(clock.instant().plus(TTL)), null, true, this);
+                return CompletableFuture.completedFuture(null);
+            }
+
+        };
+
+        // refresh-ahead window (5 minutes) far longer than the time to live
+        try (final ValidationRefreshScheduler scheduler = new ValidationRefreshScheduler(cache, 100.0)
+                .setMinimumFrequency(0.0)) {
+            refresher.get();
+            for (int second = 0; second < 60; second++) {
+                clock.advance(Duration.ofSeconds(1));
+                cache.get(key);
+                scheduler.tick();
+            }
+
+            assertEquals(stored.size() - 1, scheduler.getRefreshCount());
+        }
+
+        // never more than once per half lifetime, instead of on every tick
+        assertTrue(stored.size() > 1);
+        for (int i = 1; i < stored.size(); i++) {
+            assertTrue(stored.get(i) - stored.get(i - 1) >= TTL.toMillis() / 2, stored.toString());
+        }
+        assertTrue(stored.size() <= (60 / (TTL.getSeconds() / 2)) + 1, stored.toString());
+    }
+
+    @Test
+    public void testNoRefreshBookkeepingWithoutScheduler() {
+        final ManualClock clock = new ManualClock(Instant.parse("2014-07-07T21:30:46.658Z"));
+        final ValidationResultCache cache = new ValidationResultCache(10, clock);
+        final ValidationResultCache.Key key = ValidationResultCache.key(new Context(), "L001-TEST",
+                Collections.emptyMap());
+
+        cache.put(key, result(clock.instant().plus(TTL)), null, true, CompletableFuture::new);
+        clock.advance(TTL.minusSeconds(1));
+
+        assertTrue(cache.refreshCandidates(TTL.toMillis(), 0.0).isEmpty());
+    }
+
+    @Test
+    public void testRefreshAheadAtDefaultFrequency() {
+        final ManualClock clock = new ManualClock(Instant.parse("2014-07-07T21:30:46.658Z"));
+        final ValidationResultCache cache = new ValidationResultCache(10, clock);
+        final ValidationResultCache.Key hotKey = ValidationResultCache.key(new Context(), "L001-TEST",
+                Collections.emptyMap());
+        final ValidationResultCache.Key coldKey = ValidationResultCache.key(new Context(), "L002-TEST",
+                Collections.emptyMap());
+        final List<ValidationResultCache.Key> refreshed = new ArrayList<>();
+        final Instant expiresAt = clock.instant().plus(Duration.ofHours(1));
+
+        try (final ValidationRefreshScheduler scheduler = new ValidationRefreshScheduler(cache, 100.0)) {
+            cache.put(hotKey, result(expiresAt), null, true, () -> {
+                refreshed.add(hotKey);
+                return new CompletableFuture<>();
+            });
+            cache.put(coldKey, result(expiresAt), null, true, () -> {
+                refreshed.add(coldKey);
+                return new CompletableFuture<>();
+            });
+
+            // the hot licensee is validated every 3 minutes, the cold one every 20 minutes
+            for (int minute = 1; minute < 60; minute++) {
+                clock.advance(Duration.ofMinutes(1));
+                if (minute % 3 == 0) {
+                    cache.get(hotKey);
+                }
+                if (minute % 20 == 0) {
+                    cache.get(coldKey);
+                }
+                scheduler.tick();
+            }
+        }
+
+        assertEquals(Collections.singletonList(hotKey), refreshed);
+    }
+
+    @Test
+    public void testClosingOneSchedulerKeepsOthers() {
+        final ManualClock clock = new ManualClock(Instant.parse("2014-07-07T21:30:46.658Z"));
+        final ValidationResultCache cache = new ValidationResultCache(10, clock);
+        final ValidationResultCache.Key key = ValidationResultCache.key(new Context(), "L001-TEST",
+                Collections.emptyMap());
+        final List<Long> refreshed = new ArrayList<>();
+
+        try (final ValidationRefreshScheduler scheduler = new ValidationRefreshScheduler(cache, 100.0)
+                .setMinimumFrequency(0.0)) {
+            new ValidationRefreshScheduler(cache, 100.0).close();
+            cache.put(key, result(clock.instant().plus(Duration.ofHours(1))), null, true, () -> {
+                refreshed.add(clock.millis());
+                return new CompletableFuture<>();
+            });
+
+            // within the last 2.5 minutes the result is due, whatever its jitter
+            clock.advance(Duration.ofMinutes(58));
+            assertEquals(1, scheduler.tick());
+        }
+        assertEquals(1, refreshed.size());
+    }
+
+    @Test
+    public void testKeyIncludesPublicKeysAndVendorNumber() {
+        final ManualClock clock = new ManualClock(Instant.parse("2014-07-07T21:30:46.658Z"));
+        final ValidationResultCache cache = new ValidationResultCache(10, clock);
+        final Context context = new Context();
+        cache.put(ValidationResultCache.key(context, "L001-TEST", Collections.emptyMap()),
+                result(clock.instant().plus(TTL)), null, true, null);
+
+        // a context verifying signatures must not get a result cached without verification
+        final Context verifyingContext = new Context();
+        verifyingContext.setPublicKey("public key");
+        assertNull(cache.get(ValidationResultCache.key(verifyingContext, "L001-TEST", Collections.emptyMap())));
+
+        final Context vendorContext = new Context().setVendorNumber("V001");
+        assertNull(cache.get(ValidationResultCache.key(vendorContext, "L001-TEST", Collections.emptyMap())));
+
+        assertNotNull(cache.get(ValidationResultCache.key(new Context(), "L001-TEST", Collections.emptyMap())));
+    }
+
+    private static ValidationResult result(final Instant ttl) {
+        final Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        calendar.setTimeInMillis(ttl.toEpochMilli());
+        final ValidationResult result = new ValidationResult();
+        result.setTtl(calendar);
+        return result;
+    }
+
+}
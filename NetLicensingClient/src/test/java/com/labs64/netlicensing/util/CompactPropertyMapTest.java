@@ -0,0 +1,106 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.labs64.netlicensing.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.labs64.netlicensing.domain.entity.impl.LicenseeImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link CompactPropertyMap}.
+ */
+public class CompactPropertyMapTest {
+
+    @Test
+    public void testSameContentAsHashMap() {
+        final Map<String, String> expected = new HashMap<>();
+        final Map<String, String> actual = new CompactPropertyMap<>();
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 2000; i++) {
+            final String key = (random.nextInt(20) == 0) ? null : "key" + random.nextInt(30);
+            final String value = "value" + random.nextInt(5);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), actual.remove(key), key);
+            } else {
+                assertEquals(expected.put(key, value), actual.put(key, value), key);
+            }
+            assertEquals(expected.get(key), actual.get(key), key);
+            assertEquals(expected.containsKey(key), actual.containsKey(key), key);
+        }
+        assertEquals(expected, actual);
+        assertEquals(expected.hashCode(), actual.hashCode());
+    }
+
+    @Test
+    public void testIterationInKeyOrder() {
+        final Map<String, String> map = new CompactPropertyMap<>();
+        map.put("b", "2");
+        map.put("c", "3");
+        map.put("a", "1");
+        map.put(null, "0");
+
+        assertEquals(Arrays.asList(null, "a", "b", "c"), new ArrayList<>(map.keySet()));
+    }
+
+    @Test
+    public void testModifyByIterator() {
+        final Map<String, String> map = new CompactPropertyMap<>();
+        map.put("a", "1");
+        map.put("b", "2");
+        map.put("c", "3");
+
+        final Iterator<Map.Entry<String, String>> it = map.entrySet().iterator();
+        while (it.hasNext()) {
+            final Map.Entry<String, String> entry = it.next();
+            if ("b".equals(entry.getKey())) {
+                it.remove();
+            } else {
+                entry.setValue(entry.getValue() + "0");
+            }
+        }
+        assertEquals(Map.of("a", "10", "c", "30"), map);
+    }
+
+    @Test
+    public void testSerializable() throws Exception {
+        final LicenseeImpl licensee = new LicenseeImpl();
+        licensee.setNumber("L001");
+        licensee.addProperty("custom", "value");
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(licensee);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            final LicenseeImpl copy = (LicenseeImpl) in.readObject();
+            assertEquals(licensee.getProperties(), copy.getProperties());
+            copy.addProperty("another", "value");
+            assertEquals(2, copy.getProperties().size());
+        }
+    }
+
+}
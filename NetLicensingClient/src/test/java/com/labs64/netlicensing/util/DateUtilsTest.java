@@ -0,0 +1,91 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.labs64.netlicensing.util;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+import javax.xml.datatype.DatatypeFactory;
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import jakarta.xml.bind.DatatypeConverter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link DateUtils}.
+ */
+public class DateUtilsTest {
+
+    @Test
+    public void testParseSameAsDatatypeConverter() {
+        for (final String dateTime : Arrays.asList("2014-07-07T21:30:46.658Z", "2014-07-07T21:30:46Z",
+                "2014-07-07T21:30:46.1Z", "2014-07-07T21:30:46.6581234Z", "2024-02-29T23:59:59.999Z",
+                "2000-01-01T00:00:00Z", "1969-12-31T23:59:59.999Z", "2014-07-07T23:30:46.658+02:00",
+                "2014-07-07T16:00:46.658-05:30", "1500-03-01T12:00:00Z", "2014-07-07T24:00:00Z")) {
+            assertEquals(DatatypeConverter.parseDateTime(dateTime).getTimeInMillis(),
+                    DateUtils.parseDate(dateTime).getTimeInMillis(), dateTime);
+        }
+    }
+
+    @Test
+    public void testParseInvalid() {
+        // fraction digits must be ASCII, e.g. not ARABIC-INDIC DIGIT FIVE
+        for (final String dateTime : Arrays.asList("2014-02-30T21:30:46Z", "2014-07-07T21:30:46.Z",
+                "2014-07-07T21:30:46.\u0665Z", "not a date")) {
+            assertThrows(IllegalArgumentException.class, () -> DateUtils.parseInstant(dateTime), dateTime);
+        }
+    }
+
+    @Test
+    public void testToInstantSameAsGregorianCalendar() throws Exception {
+        final DatatypeFactory factory = DatatypeFactory.newInstance();
+        for (final String dateTime : Arrays.asList("2014-07-07T21:30:46.658Z", "2014-07-07T21:30:46Z",
+                "2014-07-07T23:30:46.658+02:00", "2014-07-07T16:00:46.1-05:30", "2024-02-29T23:59:59.999Z",
+                "1500-03-01T12:00:00Z", "2014-07-07T21:30:46.6581234Z")) {
+            final XMLGregorianCalendar calendar = factory.newXMLGregorianCalendar(dateTime);
+            assertEquals(calendar.toGregorianCalendar().toInstant(), DateUtils.toInstant(calendar), dateTime);
+        }
+        assertEquals(Instant.parse("2014-07-07T21:30:46.658Z"),
+                DateUtils.toInstant(factory.newXMLGregorianCalendar("2014-07-07T21:30:46.658")));
+    }
+
+    @Test
+    public void testPrintSameAsDatatypeConverter() {
+        for (final long millis : new long[] { 0L, 1404768646658L, 1404768646600L, 1404768646000L, -1L,
+                253402300799999L, -12219292800001L }) {
+            final Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+            calendar.setTimeInMillis(millis);
+            assertEquals(DatatypeConverter.printDateTime(calendar), DateUtils.printDate(calendar),
+                    String.valueOf(millis));
+            assertEquals(DatatypeConverter.printDateTime(calendar), DateUtils.printInstant(Instant.ofEpochMilli(
+                    millis)), String.valueOf(millis));
+        }
+    }
+
+    @Test
+    public void testPrintDoesNotModifyCalendar() {
+        final Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("Europe/Berlin"));
+        calendar.setTimeInMillis(1404768646658L);
+
+        assertEquals("2014-07-07T21:30:46.658Z", DateUtils.printDate(calendar));
+        assertEquals("Europe/Berlin", calendar.getTimeZone().getID());
+        assertEquals(23, calendar.get(Calendar.HOUR_OF_DAY));
+    }
+
+}
@@ -0,0 +1,139 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.labs64.netlicensing.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+import org.junit.jupiter.api.Test;
+
+import com.labs64.netlicensing.domain.vo.Page;
+import com.labs64.netlicensing.domain.vo.PageImpl;
+import com.labs64.netlicensing.exception.RestException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link PagePublisher}.
+ */
+public class PagePublisherTest {
+
+    private static final int TOTAL_PAGES = 3;
+
+    /** filters of the requested pages */
+    private final List<String> requested = new ArrayList<>();
+
+    private CompletableFuture<Page<String>> listAsync(final String filter) {
+        requested.add(filter);
+        final int page = Integer.parseInt(filter.replaceAll("^page=(\\d+).*$", "$1"));
+        final List<String> content = Arrays.asList(page + "a", page + "b");
+        return CompletableFuture.completedFuture(new PageImpl<>(content, page, content.size(), TOTAL_PAGES,
+                TOTAL_PAGES * content.size(), page < TOTAL_PAGES - 1));
+    }
+
+    @Test
+    public void testPagesOnDemand() {
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        new PagePublisher<>("active=true", this::listAsync).subscribe(subscriber);
+        assertTrue(requested.isEmpty());
+
+        subscriber.subscription.request(1);
+        assertEquals(Arrays.asList("0a"), subscriber.items);
+        assertEquals(Arrays.asList("page=0;active=true"), requested);
+
+        subscriber.subscription.request(2);
+        assertEquals(Arrays.asList("0a", "0b", "1a"), subscriber.items);
+        assertEquals(2, requested.size());
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertEquals(Arrays.asList("0a", "0b", "1a", "1b", "2a", "2b"), subscriber.items);
+        assertEquals(TOTAL_PAGES, requested.size());
+        assertTrue(subscriber.completed);
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    public void testCancel() {
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        new PagePublisher<>(null, this::listAsync).subscribe(subscriber);
+
+        subscriber.subscription.request(2);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(10);
+        assertEquals(Arrays.asList("0a", "0b"), subscriber.items);
+        assertEquals(Arrays.asList("page=0"), requested);
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void testError() {
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        new PagePublisher<String>(null,
+                filter -> CompletableFuture.failedFuture(new RestException("Service unavailable")))
+                        .subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+        assertInstanceOf(RestException.class, subscriber.error);
+        assertTrue(subscriber.items.isEmpty());
+    }
+
+    @Test
+    public void testInvalidRequest() {
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        new PagePublisher<>(null, this::listAsync).subscribe(subscriber);
+
+        subscriber.subscription.request(0);
+        assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+        assertTrue(requested.isEmpty());
+    }
+
+    private static final class RecordingSubscriber implements Flow.Subscriber<String> {
+
+        private Flow.Subscription subscription;
+
+        private final List<String> items = new ArrayList<>();
+
+        private boolean completed;
+
+        private Throwable error;
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(final String item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+
+    }
+
+}